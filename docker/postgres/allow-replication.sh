@@ -0,0 +1,3 @@
+#!/bin/sh
+# lets the replica service stream WAL from this container with the regular credentials
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,35 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class CourseFixtures {
+    private CourseFixtures() {
+    }
+
+    // rows shaped like the search projection, newest first as the created_at sort returns them
+    static List<FindCoursesResponseDTO> courses(int count) {
+        var start = LocalDateTime.of(2026, 1, 1, 12, 0);
+        var courses = new ArrayList<FindCoursesResponseDTO>(count);
+
+        for (int i = 0; i < count; i++) {
+            var createdAt = start.minusSeconds(i);
+
+            courses.add(FindCoursesResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("Course " + i + " - Spring Boot in Practice")
+                    .category(i % 2 == 0 ? "Backend" : "Data Engineering")
+                    .active(i % 10 != 0)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusMinutes(5))
+                    .version((long) (i % 3))
+                    .build());
+        }
+
+        return courses;
+    }
+}
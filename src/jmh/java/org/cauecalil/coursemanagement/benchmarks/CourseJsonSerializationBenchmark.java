@@ -0,0 +1,45 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesPageResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseJsonSerializationBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private JsonMapper jsonMapper;
+    private List<FindCoursesResponseDTO> courses;
+    private FindCoursesPageResponseDTO page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        courses = CourseFixtures.courses(rows);
+        page = FindCoursesPageResponseDTO.builder()
+                .items(courses)
+                .nextCursor("MjAyNi0wMS0wMVQxMjowMDowMHwwMTlhMDAwMC0wMDAwLTcwMDAtODAwMC0wMDAwMDAwMDAwMDA")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(courses);
+    }
+
+    // what GET /courses writes
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
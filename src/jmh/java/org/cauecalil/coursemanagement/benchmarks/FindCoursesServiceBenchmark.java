@@ -0,0 +1,61 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.modules.course.cache.CourseSearchCache;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesPageResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesQueryDTO;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.cauecalil.coursemanagement.modules.course.services.FindCoursesService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// page assembly around the search query: slicing the extra row, the cursor and the defensive copy
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindCoursesServiceBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private FindCoursesService findCoursesService;
+    private FindCoursesQueryDTO query;
+    private final CourseCatalogVersionDTO catalogVersion = new CourseCatalogVersionDTO(1L);
+
+    @Setup
+    public void setUp() {
+        // one row past the limit, so every page also encodes a next cursor
+        var courses = CourseFixtures.courses(rows + 1);
+
+        var courseRepository = (CourseRepository) Proxy.newProxyInstance(
+                CourseRepository.class.getClassLoader(),
+                new Class<?>[]{CourseRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findCourses")) {
+                        return courses;
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+
+        var courseSearchCache = new CourseSearchCache(false, 1, Duration.ofMinutes(1), 1, new SimpleMeterRegistry(), Duration.ZERO);
+
+        findCoursesService = new FindCoursesService(courseRepository, courseSearchCache);
+        query = FindCoursesQueryDTO.builder()
+                .name("spring")
+                .limit(rows)
+                .build();
+    }
+
+    @Benchmark
+    public FindCoursesPageResponseDTO findPage() {
+        return findCoursesService.execute(query, catalogVersion);
+    }
+}
@@ -0,0 +1,60 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.cauecalil.coursemanagement.exceptions.handlers.GlobalExceptionHandler;
+import org.cauecalil.coursemanagement.modules.course.dtos.EditCourseRequestDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+// building the exception (stack trace included), the handler and writing the body, as on a failed request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+    private GlobalExceptionHandler globalExceptionHandler;
+    private JsonMapper jsonMapper;
+    private MethodParameter editParameter;
+    private EditCourseRequestDTO invalidRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        globalExceptionHandler = new GlobalExceptionHandler(new StaticMessageSource(), new SimpleMeterRegistry());
+        jsonMapper = JsonMapper.builder().build();
+        editParameter = new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("edit", EditCourseRequestDTO.class), 0);
+        invalidRequest = EditCourseRequestDTO.builder()
+                .name("abc")
+                .category(" ")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] apiException() {
+        var response = globalExceptionHandler.handleApiException(new CourseNotFoundException());
+        return jsonMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] validationErrors() {
+        var bindingResult = new BeanPropertyBindingResult(invalidRequest, "editCourseRequestDTO");
+        bindingResult.rejectValue("name", "Size", new Object[]{100, 5}, "size must be between 5 and 100");
+        bindingResult.rejectValue("category", "Pattern", "must not be blank");
+
+        var response = globalExceptionHandler.handleMethodArgumentNotValid(new MethodArgumentNotValidException(editParameter, bindingResult));
+        return jsonMapper.writeValueAsBytes(response.getBody());
+    }
+
+    // only here to describe the controller parameter that failed validation
+    @SuppressWarnings("unused")
+    private void edit(EditCourseRequestDTO request) {
+    }
+}
@@ -0,0 +1,55 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.cauecalil.coursemanagement.providers.JWTProperties;
+import org.cauecalil.coursemanagement.providers.JWTProvider;
+import org.cauecalil.coursemanagement.providers.TokenResultDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTProviderBenchmark {
+    private static final List<String> ROLES = List.of("PROFESSOR");
+
+    private JWTProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        var properties = new JWTProperties(
+                "benchmark-legacy-secret",
+                60,
+                "k2",
+                Map.of("k1", "benchmark-secret-one", "k2", "benchmark-secret-two"),
+                null,
+                Duration.ofMinutes(1)
+        );
+
+        jwtProvider = new JWTProvider(properties, event -> {});
+        token = jwtProvider.generateToken("2f1d6a4e-3c39-4f8e-9d55-0b7f4cbd1e11", ROLES).accessToken();
+    }
+
+    @Benchmark
+    public TokenResultDTO sign() {
+        return jwtProvider.generateToken("2f1d6a4e-3c39-4f8e-9d55-0b7f4cbd1e11", ROLES);
+    }
+
+    @Benchmark
+    public DecodedJWT verify() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyWithBearerPrefix() {
+        return jwtProvider.validateToken("Bearer " + token);
+    }
+}
@@ -0,0 +1,85 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.cauecalil.coursemanagement.providers.JWTProperties;
+import org.cauecalil.coursemanagement.providers.JWTProvider;
+import org.cauecalil.coursemanagement.security.AuthenticatedTokenDTO;
+import org.cauecalil.coursemanagement.security.JWTAuthenticationCache;
+import org.cauecalil.coursemanagement.security.SecurityFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// a cache hit only rebuilds the Authentication; a miss also verifies the JWT and maps its roles
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterBenchmark {
+    private SecurityFilter cachedFilter;
+    private SecurityFilter uncachedFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        var properties = new JWTProperties(
+                "benchmark-legacy-secret",
+                60,
+                "k1",
+                Map.of("k1", "benchmark-secret-one"),
+                null,
+                Duration.ofMinutes(1)
+        );
+
+        var jwtProvider = new JWTProvider(properties, event -> {});
+        authorization = "Bearer " + jwtProvider.generateToken("2f1d6a4e-3c39-4f8e-9d55-0b7f4cbd1e11", List.of("PROFESSOR")).accessToken();
+
+        // a size-0 Caffeine cache evicts asynchronously and can still hit, so the uncached filter
+        // skips the cache altogether and every call goes through verification
+        var bypassCache = new JWTAuthenticationCache(1, new SimpleMeterRegistry()) {
+            @Override
+            public AuthenticatedTokenDTO get(String token, Function<String, AuthenticatedTokenDTO> authenticator) {
+                return authenticator.apply(token);
+            }
+        };
+
+        cachedFilter = new SecurityFilter(jwtProvider, new JWTAuthenticationCache(10_000, new SimpleMeterRegistry()), new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+        uncachedFilter = new SecurityFilter(jwtProvider, bypassCache, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cachedToken() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse uncachedToken() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    private MockHttpServletResponse filter(SecurityFilter filter) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/courses");
+        request.addHeader("Authorization", authorization);
+        var response = new MockHttpServletResponse();
+
+        // cleared here rather than in a per-invocation @TearDown, whose bookkeeping would distort a microsecond timing
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        return response;
+    }
+}
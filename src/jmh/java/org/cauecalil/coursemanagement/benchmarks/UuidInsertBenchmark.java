@@ -0,0 +1,134 @@
+package org.cauecalil.coursemanagement.benchmarks;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.openjdk.jmh.annotations.*;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// needs a local Postgres: -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username and -Dbenchmark.jdbc.password
+// default to the docker-compose database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 50;
+    private static final int PRELOAD_CHUNK = 50_000;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    // random keys only hurt once the primary key index no longer fits in cache
+    @Param({"1000000"})
+    public int preloadedRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String table;
+
+    @Setup
+    public void setUp() throws SQLException {
+        ids = switch (version) {
+            case "v4" -> UUID::randomUUID;
+            case "v7" -> () -> UuidVersion7Strategy.INSTANCE.generateUuid(null);
+            default -> throw new IllegalArgumentException("Unknown UUID version " + version);
+        };
+
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/course_management?reWriteBatchedInserts=true"),
+                System.getProperty("benchmark.jdbc.username", "admin"),
+                System.getProperty("benchmark.jdbc.password", "admin")
+        );
+
+        table = "uuid_insert_benchmark_" + version;
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("""
+                    CREATE TABLE %s (
+                        id         UUID         NOT NULL PRIMARY KEY,
+                        name       VARCHAR(100) NOT NULL,
+                        created_at TIMESTAMP(6) NOT NULL
+                    )
+                    """.formatted(table));
+        }
+
+        preload();
+
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, name, created_at) VALUES (?, ?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+
+        try (var statement = connection.createStatement();
+             var result = statement.executeQuery(
+                     "SELECT count(*), pg_relation_size('%s_pkey') FROM %s".formatted(table, table))) {
+            result.next();
+            System.out.printf("%n%s: %d rows, primary key index %d MiB (%.1f bytes/row)%n",
+                    version, result.getLong(1), result.getLong(2) >> 20, (double) result.getLong(2) / result.getLong(1));
+        }
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+
+        connection.close();
+    }
+
+    // one batch of inserts per transaction, like POST /courses/batch
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        var now = new Timestamp(System.currentTimeMillis());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "Benchmark Course");
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+
+        var counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private void preload() throws SQLException {
+        var copy = connection.unwrap(PGConnection.class).getCopyAPI();
+        var rows = new StringBuilder();
+
+        for (int loaded = 0; loaded < preloadedRows; loaded += PRELOAD_CHUNK) {
+            rows.setLength(0);
+
+            for (int i = loaded; i < Math.min(loaded + PRELOAD_CHUNK, preloadedRows); i++) {
+                rows.append(ids.get()).append(",Preloaded Course,2026-01-01 00:00:00\n");
+            }
+
+            try {
+                copy.copyIn("COPY " + table + " (id, name, created_at) FROM STDIN WITH (FORMAT csv)", new StringReader(rows.toString()));
+            } catch (IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+    }
+}
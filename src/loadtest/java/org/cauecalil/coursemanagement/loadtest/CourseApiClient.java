@@ -0,0 +1,125 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseRequestDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCoursesBatchRequestDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCoursesBatchResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.EditCourseRequestDTO;
+import org.cauecalil.coursemanagement.modules.professor.dtos.AuthProfessorRequestDTO;
+import org.cauecalil.coursemanagement.modules.professor.dtos.AuthProfessorResponseDTO;
+import org.cauecalil.coursemanagement.modules.professor.dtos.CreateProfessorRequestDTO;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+// talks to the running app over HTTP with the API's own request and response DTOs
+final class CourseApiClient {
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    CourseApiClient(URI baseUri, Duration requestTimeout) {
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    int createProfessor(String name, String email, String password) throws IOException, InterruptedException {
+        var body = CreateProfessorRequestDTO.builder().name(name).email(email).password(password).build();
+        return send(post("/professors", null, body)).statusCode();
+    }
+
+    HttpResponse<byte[]> login(String email, String password) throws IOException, InterruptedException {
+        var body = AuthProfessorRequestDTO.builder().email(email).password(password).build();
+        return send(post("/professors/auth", null, body));
+    }
+
+    String token(HttpResponse<byte[]> loginResponse) {
+        return jsonMapper.readValue(loginResponse.body(), AuthProfessorResponseDTO.class).access_token();
+    }
+
+    List<UUID> createCourses(String token, List<CreateCourseRequestDTO> courses) throws IOException, InterruptedException {
+        var body = CreateCoursesBatchRequestDTO.builder().courses(courses).build();
+        var response = expect(send(post("/courses/batch", token, body)), 200);
+
+        return jsonMapper.readValue(response.body(), CreateCoursesBatchResponseDTO.class).results().stream()
+                .map(result -> result.course() != null ? result.course().id() : null)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    HttpResponse<byte[]> listCourses(String name, int limit) throws IOException, InterruptedException {
+        var query = "?limit=" + limit + (name != null ? "&name=" + URLEncoder.encode(name, StandardCharsets.UTF_8) : "");
+        return send(request("/courses" + query, null).GET().build());
+    }
+
+    HttpResponse<byte[]> createCourse(String token, String name, String category) throws IOException, InterruptedException {
+        var body = CreateCourseRequestDTO.builder().name(name).category(category).build();
+        return send(post("/courses", token, body));
+    }
+
+    UUID courseId(HttpResponse<byte[]> createResponse) {
+        return jsonMapper.readValue(createResponse.body(), CreateCourseResponseDTO.class).id();
+    }
+
+    HttpResponse<byte[]> editCategory(String token, UUID courseId, String category) throws IOException, InterruptedException {
+        var body = EditCourseRequestDTO.builder().category(category).build();
+        return send(request("/courses/" + courseId, token)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    HttpResponse<byte[]> toggle(String token, UUID courseId) throws IOException, InterruptedException {
+        return send(request("/courses/" + courseId + "/active", token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    static HttpResponse<byte[]> expect(HttpResponse<byte[]> response, int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException("%s %s answered %d: %s".formatted(
+                    response.request().method(), response.uri(), response.statusCode(),
+                    new String(response.body(), StandardCharsets.UTF_8)));
+        }
+
+        return response;
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        return request(path, token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        var builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
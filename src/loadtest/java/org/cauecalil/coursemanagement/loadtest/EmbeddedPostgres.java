@@ -0,0 +1,159 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Throwaway Postgres started from the binaries in {@code embedded-postgres-binaries-*}, the
+ * same ones the zonky embedded database uses, so runs don't depend on Docker.
+ */
+final class EmbeddedPostgres implements AutoCloseable {
+    static final String DATABASE = "course_management";
+    static final String USERNAME = "postgres";
+
+    private final Path installation;
+    private final Path dataDirectory;
+    private final Path log;
+    private final int port;
+
+    private EmbeddedPostgres(Path installation, Path dataDirectory, Path log, int port) {
+        this.installation = installation;
+        this.dataDirectory = dataDirectory;
+        this.log = log;
+        this.port = port;
+    }
+
+    static EmbeddedPostgres start(Path workDirectory) throws IOException, InterruptedException, SQLException {
+        // initdb and postgres both refuse to run with root privileges
+        if ("root".equals(System.getProperty("user.name"))) {
+            throw new IllegalStateException("Postgres won't run as root, run as a regular user or pass --loadtest.database=external");
+        }
+
+        var installation = install(workDirectory.resolve("postgres"));
+        var dataDirectory = Files.createTempDirectory(workDirectory, "pgdata-");
+        var postgres = new EmbeddedPostgres(installation, dataDirectory, workDirectory.resolve("postgres.log"), freePort());
+
+        postgres.run("initdb", "-A", "trust", "-U", USERNAME, "-E", "UTF-8", "-D", dataDirectory.toString());
+        postgres.run("pg_ctl", "-D", dataDirectory.toString(), "-l", postgres.log.toString(), "-w", "start",
+                "-o", "-p " + postgres.port + " -c listen_addresses=localhost -c unix_socket_directories=''");
+
+        try (var connection = DriverManager.getConnection(postgres.jdbcUrl("postgres"), USERNAME, "");
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + DATABASE);
+        }
+
+        return postgres;
+    }
+
+    String jdbcUrl() {
+        return jdbcUrl(DATABASE);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        try {
+            run("pg_ctl", "-D", dataDirectory.toString(), "-m", "fast", "-w", "stop");
+        } finally {
+            try (var files = Files.walk(dataDirectory)) {
+                for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private String jdbcUrl(String database) {
+        return "jdbc:postgresql://localhost:" + port + "/" + database;
+    }
+
+    private void run(String binary, String... args) throws IOException, InterruptedException {
+        var command = new ArrayList<>(List.of(installation.resolve("bin").resolve(binary).toString()));
+        command.addAll(List.of(args));
+
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log.toFile()))
+                .start();
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(binary + " failed, see " + log);
+        }
+    }
+
+    // unpacked once per work directory and reused by later runs
+    private static Path install(Path target) throws IOException {
+        if (Files.exists(target.resolve("bin").resolve("pg_ctl"))) {
+            return target;
+        }
+
+        var archive = "postgres-%s-%s.txz".formatted(system(), architecture());
+        var resource = EmbeddedPostgres.class.getResourceAsStream("/" + archive);
+
+        if (resource == null) {
+            throw new IllegalStateException(archive + " is not on the classpath, set -Dembedded-postgres.platform to match this machine");
+        }
+
+        var staging = Files.createTempDirectory(target.getParent(), "postgres-");
+
+        try (var tar = new TarArchiveInputStream(new XZCompressorInputStream(new BufferedInputStream(resource)))) {
+            for (var entry = tar.getNextEntry(); entry != null; entry = tar.getNextEntry()) {
+                var path = staging.resolve(entry.getName()).normalize();
+
+                if (!path.startsWith(staging)) {
+                    throw new IOException("Archive entry outside the target directory: " + entry.getName());
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(path);
+                } else if (entry.isSymbolicLink()) {
+                    Files.createDirectories(path.getParent());
+                    Files.createSymbolicLink(path, Path.of(entry.getLinkName()));
+                } else {
+                    Files.createDirectories(path.getParent());
+                    Files.copy(tar, path, StandardCopyOption.REPLACE_EXISTING);
+                    path.toFile().setExecutable((entry.getMode() & 0100) != 0, false);
+                }
+            }
+        }
+
+        Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        return target;
+    }
+
+    private static String system() {
+        var name = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+
+        if (name.contains("mac")) {
+            return "darwin";
+        }
+
+        return name.contains("win") ? "windows" : "linux";
+    }
+
+    private static String architecture() {
+        return switch (System.getProperty("os.arch")) {
+            case "amd64", "x86_64" -> "x86_64";
+            case "aarch64", "arm64" -> "arm_64";
+            default -> System.getProperty("os.arch");
+        };
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
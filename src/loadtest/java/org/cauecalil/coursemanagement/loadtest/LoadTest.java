@@ -0,0 +1,60 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.cauecalil.coursemanagement.CourseManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Boots the application against a fresh (embedded) or existing (external) Postgres, seeds it through
+ * the API, warms up, then drives the configured mix at a fixed rate and checks the latency SLOs.
+ * Exits with 1 when an SLO is breached so CI can gate on it.
+ */
+public final class LoadTest {
+    private static final Path OUTPUT = Path.of("target", "loadtest");
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        // devtools is on the test classpath and would restart the app in a second class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        var settings = LoadTestSettings.load(args);
+        var breaches = List.<String>of();
+        Files.createDirectories(OUTPUT);
+
+        try (var database = settings.embeddedDatabase() ? EmbeddedPostgres.start(OUTPUT.toAbsolutePath()) : null) {
+            var properties = new HashMap<>(settings.appProperties());
+            properties.put("server.port", 0);
+            properties.put("spring.datasource.url", database != null ? database.jdbcUrl() : settings.jdbcUrl());
+            properties.put("spring.datasource.username", database != null ? EmbeddedPostgres.USERNAME : settings.jdbcUsername());
+            properties.put("spring.datasource.password", database != null ? "" : settings.jdbcPassword());
+
+            try (var application = new SpringApplicationBuilder(CourseManagementApplication.class).properties(properties).run()) {
+                var port = application.getEnvironment().getRequiredProperty("local.server.port");
+                var client = new CourseApiClient(URI.create("http://localhost:" + port), settings.requestTimeout());
+
+                System.out.printf("Seeding %d professors and %d courses%n", settings.professors(), settings.courses());
+                var workload = Workload.seed(client, settings.professors(), settings.courses());
+                var runner = new WorkloadRunner(workload, settings.rate(), settings.mix());
+
+                System.out.printf("Warming up for %s at %.0f req/s%n", settings.warmup(), settings.rate());
+                runner.run(settings.warmup());
+
+                System.out.printf("Measuring for %s at %.0f req/s%n", settings.duration(), settings.rate());
+                var report = new LoadTestReport(settings, runner.run(settings.duration()));
+                report.print(System.out);
+                report.write(OUTPUT);
+
+                breaches = report.breaches();
+            }
+        }
+
+        breaches.forEach(breach -> System.out.println("SLO breached: " + breach));
+        System.out.println((breaches.isEmpty() ? "All SLOs met" : "SLOs breached") + ", histograms written to " + OUTPUT);
+        System.exit(breaches.isEmpty() ? 0 : 1);
+    }
+}
@@ -0,0 +1,122 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints per-operation percentiles, writes one {@code .hgrm} file per operation plus a
+ * {@code summary.json} to the output directory, and lists the SLOs the run breached.
+ */
+final class LoadTestReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestSettings settings;
+    private final Map<Operation, Histogram> histograms;
+    private final WorkloadRunner.Results results;
+
+    LoadTestReport(LoadTestSettings settings, WorkloadRunner.Results results) {
+        this.settings = settings;
+        this.histograms = results.histograms();
+        this.results = results;
+    }
+
+    List<String> breaches() {
+        var breaches = new ArrayList<String>();
+        long requests = 0;
+        long errors = 0;
+
+        for (var entry : histograms.entrySet()) {
+            var operation = entry.getKey();
+            var histogram = entry.getValue();
+            var slo = settings.p99Slos().get(operation);
+
+            requests += histogram.getTotalCount();
+            errors += results.errors(operation);
+
+            if (slo != null && histogram.getTotalCount() > 0 && histogram.getValueAtPercentile(99) > slo.toNanos()) {
+                breaches.add("%s p99 %.1f ms > %d ms".formatted(
+                        operation.key(), histogram.getValueAtPercentile(99) / NANOS_PER_MILLI, slo.toMillis()));
+            }
+        }
+
+        if (requests > 0 && (double) errors / requests > settings.maxErrorRate()) {
+            breaches.add("error rate %.4f > %.4f".formatted((double) errors / requests, settings.maxErrorRate()));
+        }
+
+        return breaches;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-8s %8s %8s %9s %9s %9s %9s %9s %7s%n",
+                "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+
+        histograms.forEach((operation, histogram) -> out.printf("%-8s %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                operation.key(),
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds(results.elapsed()),
+                millis(histogram, 50),
+                millis(histogram, 90),
+                millis(histogram, 99),
+                millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI,
+                results.errors(operation)));
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var operations = new LinkedHashMap<String, Object>();
+
+        for (var entry : histograms.entrySet()) {
+            var operation = entry.getKey();
+            var histogram = entry.getValue();
+
+            try (var out = new PrintStream(Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+
+            var summary = new LinkedHashMap<String, Object>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("errors", results.errors(operation));
+            summary.put("p50_ms", millis(histogram, 50));
+            summary.put("p90_ms", millis(histogram, 90));
+            summary.put("p99_ms", millis(histogram, 99));
+            summary.put("p999_ms", millis(histogram, 99.9));
+            summary.put("max_ms", histogram.getMaxValue() / NANOS_PER_MILLI);
+
+            var slo = settings.p99Slos().get(operation);
+
+            if (slo != null) {
+                summary.put("slo_p99_ms", slo.toMillis());
+            }
+
+            operations.put(operation.key(), summary);
+        }
+
+        var report = new LinkedHashMap<String, Object>();
+        report.put("rate", settings.rate());
+        report.put("duration_s", seconds(results.elapsed()));
+        report.put("operations", operations);
+        report.put("breaches", breaches());
+
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve("summary.json").toFile(), report);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,120 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Defaults come from {@code loadtest.properties}; each {@code --loadtest.key=value} argument
+ * overrides one of them.
+ */
+record LoadTestSettings(
+        boolean embeddedDatabase,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        int professors,
+        int courses,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration requestTimeout,
+        Map<Operation, Integer> mix,
+        double maxErrorRate,
+        Map<Operation, Duration> p99Slos,
+        Map<String, Object> appProperties
+) {
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    static LoadTestSettings load(String[] args) throws IOException {
+        var properties = new Properties();
+
+        try (var defaults = LoadTestSettings.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(defaults);
+        }
+
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+
+            if (!arg.startsWith("--" + PREFIX) || separator < 0) {
+                throw new IllegalArgumentException("Expected --loadtest.<key>=<value> but got " + arg);
+            }
+
+            properties.setProperty(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        var database = require(properties, "database");
+
+        if (!database.equals("embedded") && !database.equals("external")) {
+            throw new IllegalArgumentException("loadtest.database must be embedded or external, not " + database);
+        }
+
+        var professors = Integer.parseInt(require(properties, "professors"));
+        var courses = Integer.parseInt(require(properties, "courses"));
+
+        // edit and toggle pick one of the calling professor's own courses, so every professor needs one
+        if (professors < 1 || courses < professors) {
+            throw new IllegalArgumentException("loadtest.courses (" + courses + ") must be at least loadtest.professors ("
+                    + professors + ") and loadtest.professors must be positive");
+        }
+
+        var mix = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (var entry : require(properties, "mix").split(",")) {
+            var parts = entry.trim().split(":");
+            mix.put(Operation.valueOf(parts[0].toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1]));
+        }
+
+        var p99Slos = new EnumMap<Operation, Duration>(Operation.class);
+
+        for (var operation : Operation.values()) {
+            var slo = properties.getProperty(PREFIX + "slo." + operation.key() + ".p99");
+
+            if (slo != null) {
+                p99Slos.put(operation, DurationStyle.detectAndParse(slo));
+            }
+        }
+
+        var appProperties = new HashMap<String, Object>();
+
+        for (var name : properties.stringPropertyNames()) {
+            if (name.startsWith(APP_PREFIX)) {
+                appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+
+        return new LoadTestSettings(
+                database.equals("embedded"),
+                require(properties, "jdbc-url"),
+                require(properties, "jdbc-username"),
+                require(properties, "jdbc-password"),
+                professors,
+                courses,
+                Double.parseDouble(require(properties, "rate")),
+                DurationStyle.detectAndParse(require(properties, "warmup")),
+                DurationStyle.detectAndParse(require(properties, "duration")),
+                DurationStyle.detectAndParse(require(properties, "request-timeout")),
+                mix,
+                Double.parseDouble(require(properties, "slo.error-rate")),
+                p99Slos,
+                appProperties
+        );
+    }
+
+    private static String require(Properties properties, String key) {
+        var value = properties.getProperty(PREFIX + key);
+
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + PREFIX + key);
+        }
+
+        return value.trim();
+    }
+}
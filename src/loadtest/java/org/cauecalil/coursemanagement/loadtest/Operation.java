@@ -0,0 +1,16 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import java.util.Locale;
+
+enum Operation {
+    LIST,
+    SEARCH,
+    LOGIN,
+    CREATE,
+    EDIT,
+    TOGGLE;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,120 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseRequestDTO;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded professors and courses plus the requests each {@link Operation} sends. Names carry a
+ * per-run id, so runs against an external database don't collide with earlier ones.
+ */
+final class Workload {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final String PASSWORD = "loadtest-password";
+    private static final List<String> TOPICS = List.of(
+            "Java", "Spring", "Postgres", "Kotlin", "React", "Docker", "Kubernetes", "Python", "Golang", "Rust"
+    );
+    private static final List<String> CATEGORIES = List.of(
+            "Backend", "Frontend", "DevOps", "Databases", "Security", "Mobile", "Cloud", "Testing"
+    );
+
+    private final CourseApiClient client;
+    private final String runId;
+    private final List<Professor> professors;
+    private final AtomicLong courseSequence;
+
+    private Workload(CourseApiClient client, String runId, List<Professor> professors, long courseSequence) {
+        this.client = client;
+        this.runId = runId;
+        this.professors = professors;
+        this.courseSequence = new AtomicLong(courseSequence);
+    }
+
+    static Workload seed(CourseApiClient client, int professorCount, int courseCount) throws IOException, InterruptedException {
+        var runId = Long.toString(System.currentTimeMillis(), 36);
+        var professors = new ArrayList<Professor>(professorCount);
+
+        for (int i = 0; i < professorCount; i++) {
+            var email = "loadtest-%s-%d@example.com".formatted(runId, i);
+            var status = client.createProfessor("Load Test Professor " + i, email, PASSWORD);
+
+            if (status / 100 != 2) {
+                throw new IllegalStateException("Creating professor " + email + " answered " + status);
+            }
+
+            var token = client.token(CourseApiClient.expect(client.login(email, PASSWORD), 200));
+            professors.add(new Professor(email, token, new CopyOnWriteArrayList<>()));
+        }
+
+        var workload = new Workload(client, runId, professors, 0);
+
+        // spread evenly so every professor owns courses to edit and toggle (settings require courses >= professors)
+        for (int p = 0; p < professorCount; p++) {
+            var owner = professors.get(p);
+            var share = courseCount / professorCount + (p < courseCount % professorCount ? 1 : 0);
+
+            for (int created = 0; created < share; created += MAX_BATCH_SIZE) {
+                var batch = new ArrayList<CreateCourseRequestDTO>();
+
+                for (int i = created; i < Math.min(share, created + MAX_BATCH_SIZE); i++) {
+                    batch.add(workload.nextCourse());
+                }
+
+                owner.courses().addAll(client.createCourses(owner.token(), batch));
+            }
+        }
+
+        return workload;
+    }
+
+    // status the API answers when the operation succeeds
+    static int expectedStatus(Operation operation) {
+        return operation == Operation.CREATE ? 201 : 200;
+    }
+
+    HttpResponse<byte[]> execute(Operation operation) throws IOException, InterruptedException {
+        var random = ThreadLocalRandom.current();
+        var professor = professors.get(random.nextInt(professors.size()));
+
+        return switch (operation) {
+            case LIST -> client.listCourses(null, PAGE_SIZE);
+            case SEARCH -> client.listCourses(pick(TOPICS), PAGE_SIZE);
+            case LOGIN -> client.login(professor.email(), PASSWORD);
+            case CREATE -> {
+                var course = nextCourse();
+                var response = client.createCourse(professor.token(), course.name(), course.category());
+
+                if (response.statusCode() == 201) {
+                    professor.courses().add(client.courseId(response));
+                }
+
+                yield response;
+            }
+            case EDIT -> client.editCategory(professor.token(), pick(professor.courses()), pick(CATEGORIES));
+            case TOGGLE -> client.toggle(professor.token(), pick(professor.courses()));
+        };
+    }
+
+    private CreateCourseRequestDTO nextCourse() {
+        var sequence = courseSequence.getAndIncrement();
+
+        return CreateCourseRequestDTO.builder()
+                .name("%s Course %s-%d".formatted(TOPICS.get((int) (sequence % TOPICS.size())), runId, sequence))
+                .category(CATEGORIES.get((int) (sequence % CATEGORIES.size())))
+                .build();
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private record Professor(String email, String token, List<UUID> courses) {}
+}
@@ -0,0 +1,105 @@
+package org.cauecalil.coursemanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Open model: requests are started on a fixed schedule whether or not earlier ones finished, each
+ * on its own virtual thread. Latency is measured from the scheduled start rather than the actual
+ * send, so a stalled server shows up in the percentiles instead of just slowing the client down
+ * (coordinated omission).
+ */
+final class WorkloadRunner {
+    private final Workload workload;
+    private final double rate;
+    private final Operation[] schedule;
+
+    WorkloadRunner(Workload workload, double rate, Map<Operation, Integer> mix) {
+        this.workload = workload;
+        this.rate = rate;
+        // one slot per weight unit, picked uniformly
+        this.schedule = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    Results run(Duration duration) {
+        var results = new Results();
+        var interval = (long) (1_000_000_000L / rate);
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intendedStart = start; intendedStart < end; intendedStart += interval) {
+                for (long now = System.nanoTime(); now < intendedStart; now = System.nanoTime()) {
+                    LockSupport.parkNanos(intendedStart - now);
+                }
+
+                var operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                var scheduledAt = intendedStart;
+
+                executor.execute(() -> results.record(operation, scheduledAt, send(operation)));
+            }
+        }
+
+        results.elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return results;
+    }
+
+    private boolean send(Operation operation) {
+        try {
+            return workload.execute(operation).statusCode() == Workload.expectedStatus(operation);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            // timeouts and refused connections count as errors, with the time spent waiting
+            return false;
+        }
+    }
+
+    static final class Results {
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private Duration elapsed = Duration.ZERO;
+
+        private Results() {
+            for (var operation : Operation.values()) {
+                recorders.put(operation, new Recorder(3));
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        private void record(Operation operation, long scheduledAt, boolean succeeded) {
+            recorders.get(operation).recordValue(System.nanoTime() - scheduledAt);
+
+            if (!succeeded) {
+                errors.get(operation).increment();
+            }
+        }
+
+        // latencies in nanoseconds, including failed requests
+        Map<Operation, Histogram> histograms() {
+            var histograms = new EnumMap<Operation, Histogram>(Operation.class);
+            recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            return histograms;
+        }
+
+        long errors(Operation operation) {
+            return errors.get(operation).sum();
+        }
+
+        Duration elapsed() {
+            return elapsed;
+        }
+    }
+}
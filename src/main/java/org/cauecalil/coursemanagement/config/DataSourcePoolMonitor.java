@@ -0,0 +1,110 @@
+package org.cauecalil.coursemanagement.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.cauecalil.coursemanagement.config.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Checks Hikari pool sizes against the CPUs this node can actually drive at startup and
+ * publishes {@code hikaricp.connections.saturation}, the share of the pool in use.
+ */
+@Slf4j
+@Component
+public class DataSourcePoolMonitor implements InitializingBean, MeterBinder {
+    public enum SizeCheck { OFF, WARN, FAIL }
+
+    private final List<HikariDataSource> dataSources;
+    private final SizeCheck sizeCheck;
+    private final int maxConnectionsPerCpu;
+    private final int cpus;
+
+    @Autowired
+    public DataSourcePoolMonitor(
+            ObjectProvider<DataSource> dataSources,
+            ObjectProvider<ReplicaRoutingDataSource> replicas,
+            @Value("${datasource.pool.size-check}") SizeCheck sizeCheck,
+            @Value("${datasource.pool.max-connections-per-cpu}") int maxConnectionsPerCpu
+    ) {
+        this(Stream.concat(hikariPools(dataSources), replicas.orderedStream().flatMap(replica -> replica.pools().stream())).toList(), sizeCheck, maxConnectionsPerCpu, Runtime.getRuntime().availableProcessors());
+    }
+
+    DataSourcePoolMonitor(List<HikariDataSource> dataSources, SizeCheck sizeCheck, int maxConnectionsPerCpu, int cpus) {
+        this.dataSources = dataSources;
+        this.sizeCheck = sizeCheck;
+        this.maxConnectionsPerCpu = maxConnectionsPerCpu;
+        this.cpus = cpus;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (sizeCheck == SizeCheck.OFF) {
+            return;
+        }
+
+        // sized against this application node's CPUs, not the database's: a pool much larger than
+        // the threads this node can keep busy only adds idle connections and context switches here
+        var limit = cpus * maxConnectionsPerCpu;
+
+        for (var dataSource : dataSources) {
+            var poolSize = dataSource.getMaximumPoolSize();
+
+            if (poolSize <= limit) {
+                log.info("Pool {} sized at {} connections for {} CPUs", dataSource.getPoolName(), poolSize, cpus);
+                continue;
+            }
+
+            var message = "Pool %s has %d connections but %d CPUs can drive at most %d (datasource.pool.max-connections-per-cpu=%d)"
+                    .formatted(dataSource.getPoolName(), poolSize, cpus, limit, maxConnectionsPerCpu);
+
+            if (sizeCheck == SizeCheck.FAIL) {
+                throw new IllegalStateException(message);
+            }
+
+            log.warn(message);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Hikari already publishes active, idle, pending and timeouts; this is the ratio to alert on
+        for (var dataSource : dataSources) {
+            Gauge.builder("hikaricp.connections.saturation", dataSource, DataSourcePoolMonitor::saturation)
+                    .description("Share of the pool's maximum connections currently in use")
+                    .tag("pool", String.valueOf(dataSource.getPoolName()))
+                    .register(registry);
+        }
+    }
+
+    // the JDBC tracing proxy wraps DataSource beans, so look through it for the pool
+    private static Stream<HikariDataSource> hikariPools(ObjectProvider<DataSource> dataSources) {
+        return dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct();
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        var pool = dataSource.getHikariPoolMXBean();
+
+        if (pool == null) {
+            return 0;
+        }
+
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
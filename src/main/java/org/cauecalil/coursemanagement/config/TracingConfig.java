@@ -0,0 +1,18 @@
+package org.cauecalil.coursemanagement.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+    // prints every finished span to the log, for reading traces without a collector;
+    // runs next to the OTLP exporter when management.opentelemetry.tracing.export.otlp.endpoint is set
+    @Bean
+    @ConditionalOnBooleanProperty("tracing.log-exporter.enabled")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
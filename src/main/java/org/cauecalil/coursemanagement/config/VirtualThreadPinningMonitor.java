@@ -0,0 +1,80 @@
+package org.cauecalil.coursemanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events into a timer, so blocking inside a
+ * {@code synchronized} block (or a native frame) shows up before it starves the carrier pool.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinned;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    private final RecordingStream recordingStream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        // same name micrometer-java21's VirtualThreadMetrics uses, so dashboards carry over
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(meterRegistry);
+
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+
+        var stackTrace = event.getStackTrace();
+
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+
+        // the top frames are the JDK parking the thread, the first caller outside it is the culprit;
+        // one warning per call site, the timer keeps counting the rest
+        var frame = stackTrace.getFrames().stream()
+                .filter(candidate -> !isJdkFrame(candidate))
+                .findFirst()
+                .orElse(stackTrace.getFrames().getFirst());
+        var site = frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+
+        if (reportedFrames.add(site)) {
+            log.warn("Virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        var type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+}
@@ -0,0 +1,101 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Boot's single pool when {@code datasource.replicas.urls} is set: read-write work
+ * uses the primary, {@code @Transactional(readOnly = true)} work is routed by
+ * {@link ReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replicas.urls")
+public class ReadReplicaDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(StringUtils.hasText(properties.getName()) ? properties.getName() : "primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReadReplicaProperties replicaProperties,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry
+    ) {
+        var pools = new ArrayList<HikariDataSource>();
+
+        for (var url : replicaProperties.urls()) {
+            pools.add(replicaPool(url, pools.size() + 1, primaryDataSource, replicaProperties, meterRegistry));
+        }
+
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                List.copyOf(pools),
+                readYourWrites,
+                replicaProperties.maxReplicationLag(),
+                meterRegistry
+        );
+    }
+
+    // Hibernate grabs a connection while beginning the transaction, before Spring has flagged it
+    // read-only; the proxy defers picking the database to the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Spring's default holds the connection for the whole session, and with open-in-view a
+    // write would reuse the replica connection of an earlier read in the same request
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(
+                JdbcSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    private static HikariDataSource replicaPool(
+            String url,
+            int index,
+            HikariDataSource primary,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        var config = new HikariConfig();
+        config.setPoolName("replica-" + index);
+        config.setJdbcUrl(url);
+        config.setUsername(StringUtils.hasText(properties.username()) ? properties.username() : primary.getUsername());
+        config.setPassword(StringUtils.hasText(properties.password()) ? properties.password() : primary.getPassword());
+        config.setDriverClassName(primary.getDriverClassName());
+        config.setDataSourceProperties(primary.getDataSourceProperties());
+        config.setMaximumPoolSize(properties.maximumPoolSize());
+        config.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // a replica that is down at startup must not keep the app from booting
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,24 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+// replicas are off until at least one url is set; credentials default to spring.datasource's
+@ConfigurationProperties("datasource.replicas")
+public record ReadReplicaProperties(
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("1s") Duration connectionTimeout,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("5s") Duration maxReplicationLag,
+        @DefaultValue("5s") Duration healthCheckInterval
+) {
+    public boolean enabled() {
+        return !urls.isEmpty();
+    }
+}
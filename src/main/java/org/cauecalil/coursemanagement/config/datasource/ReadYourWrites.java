@@ -0,0 +1,87 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Remembers who committed a write in the last {@code datasource.replicas.read-your-writes-window},
+ * so their reads skip replicas that may not have replayed it yet.
+ */
+@Component
+public class ReadYourWrites implements TransactionExecutionListener {
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final Duration window;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(ReadReplicaProperties properties) {
+        this.enabled = properties.enabled();
+        this.window = properties.readYourWritesWindow();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // registered on the transaction manager by Boot, fires once per physical commit
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (!enabled || commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+
+        var writer = currentPrincipal();
+
+        if (writer != null) {
+            recentWriters.put(writer, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        if (FORCE_PRIMARY.get() != null) {
+            return true;
+        }
+
+        var reader = currentPrincipal();
+        return reader != null && recentWriters.getIfPresent(reader) != null;
+    }
+
+    // for lookups whose miss may just be replication lag; empty when replicas are off
+    public <T> Optional<T> retryOnPrimary(Supplier<Optional<T>> query) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        FORCE_PRIMARY.set(Boolean.TRUE);
+
+        try {
+            return query.get();
+        } finally {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    // how long after a write a read may still come from a replica that hasn't seen it
+    public Duration staleReadWindow() {
+        return enabled ? window : Duration.ZERO;
+    }
+
+    private static String currentPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,218 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands read-only transactions a connection from one of the healthy replicas, falling back
+ * to the primary when none is usable or the caller must read its own writes. Everything
+ * else goes to the primary. Within an HTTP request every read-only transaction uses the
+ * database the first one picked, so a later read never sees an older state than an earlier one.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    // read on the primary first: a replica that has replayed up to that position is current, however
+    // old its last commit; one that hasn't, whether slow or disconnected, is as old as its last replayed
+    // commit, or of unknown age (NULL) if it replayed none since it started. None of these functions
+    // needs pg_read_all_stats or superuser
+    private static final String PRIMARY_POSITION_QUERY = "SELECT CAST(pg_current_wal_lsn() AS TEXT)";
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_replay_lsn() >= CAST(? AS PG_LSN) THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    private static final String READ_TARGET = ReplicaRoutingDataSource.class.getName() + ".READ_TARGET";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration maxReplicationLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicaPools,
+            ReadYourWrites readYourWrites,
+            Duration maxReplicationLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.maxReplicationLag = maxReplicationLag;
+
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.primaryReads = readCounter(meterRegistry, "primary");
+        Gauge.builder("datasource.replicas.healthy", replicas, list -> list.stream().filter(Replica::isHealthy).count())
+                .description("Replicas currently eligible for read-only transactions")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(HikariDataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(pool -> pool.getConnection(username, password));
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:5s}")
+    public void checkHealth() {
+        String primaryPosition;
+
+        try (var connection = primary.getConnection();
+             var statement = connection.createStatement();
+             var result = statement.executeQuery(PRIMARY_POSITION_QUERY)) {
+            result.next();
+            primaryPosition = result.getString(1);
+        } catch (SQLException ex) {
+            // nothing to measure the replicas against, keep their current state until the next run
+            log.warn("Replica health check skipped, primary WAL position unavailable: {}", ex.getMessage());
+            return;
+        }
+
+        for (var replica : replicas) {
+            try (var connection = replica.pool().getConnection();
+                 var statement = connection.prepareStatement(LAG_QUERY)) {
+                statement.setString(1, primaryPosition);
+
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                    var lag = Duration.ofMillis((long) (result.getDouble(1) * 1000));
+
+                    if (result.wasNull()) {
+                        replica.markUnhealthy("behind the primary with no transaction replayed yet");
+                    } else if (lag.compareTo(maxReplicationLag) > 0) {
+                        replica.markUnhealthy("replication lag " + lag.toMillis() + "ms");
+                    } else {
+                        replica.markHealthy();
+                    }
+                }
+            } catch (SQLException ex) {
+                replica.markUnhealthy("health check failed: " + ex.getMessage());
+            }
+        }
+    }
+
+    public List<HikariDataSource> pools() {
+        return replicas.stream().map(Replica::pool).toList();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool().close());
+    }
+
+    private Connection route(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connector.connect(primary);
+        }
+
+        var request = RequestContextHolder.getRequestAttributes();
+        var pinned = request != null ? request.getAttribute(READ_TARGET, RequestAttributes.SCOPE_REQUEST) : null;
+
+        if (readYourWrites.mustReadPrimary()) {
+            pinned = primary;
+        }
+
+        if (pinned instanceof Replica replica) {
+            var connection = connect(replica, connector);
+
+            if (connection != null) {
+                return connection;
+            }
+        } else if (pinned == null) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                var replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                var connection = connect(replica, connector);
+
+                if (connection != null) {
+                    pin(request, replica);
+                    return connection;
+                }
+            }
+        }
+
+        // the primary is ahead of every replica, so the rest of the request can't go back in time
+        pin(request, primary);
+        primaryReads.increment();
+        return connector.connect(primary);
+    }
+
+    private Connection connect(Replica replica, Connector connector) {
+        if (!replica.isHealthy()) {
+            return null;
+        }
+
+        try {
+            var connection = connector.connect(replica.pool());
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException ex) {
+            // don't make every request wait for the timeout, the health check brings it back
+            replica.markUnhealthy("connection failed: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private static void pin(RequestAttributes request, Object target) {
+        if (request != null) {
+            request.setAttribute(READ_TARGET, target, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.reads")
+                .description("Read-only connections handed out, by the database that served them")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(HikariDataSource pool) throws SQLException;
+    }
+
+    private record Replica(HikariDataSource pool, AtomicBoolean healthy) {
+        Replica(HikariDataSource pool) {
+            this(pool, new AtomicBoolean(true));
+        }
+
+        boolean isHealthy() {
+            return healthy.get();
+        }
+
+        void markHealthy() {
+            if (healthy.compareAndSet(false, true)) {
+                log.info("Replica {} is back, routing reads to it again", pool.getPoolName());
+            }
+        }
+
+        void markUnhealthy(String reason) {
+            if (healthy.compareAndSet(true, false)) {
+                log.warn("Replica {} taken out of rotation ({}), reads fall back to the primary", pool.getPoolName(), reason);
+            }
+        }
+    }
+}
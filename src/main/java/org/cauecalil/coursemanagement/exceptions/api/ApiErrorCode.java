@@ -12,8 +12,13 @@ public enum ApiErrorCode {
     COURSE_NOT_FOUND,
     COURSE_ALREADY_EXISTS,
     INVALID_COURSE_UPDATE,
+    INVALID_COURSE_CURSOR,
+    COURSE_VERSION_MISMATCH,
+    COURSE_EXPORT_UNAVAILABLE,
 
     PROFESSOR_NOT_FOUND,
     PROFESSOR_ALREADY_EXISTS,
-    INVALID_CREDENTIALS
+    INVALID_CREDENTIALS,
+
+    PASSWORD_HASHING_UNAVAILABLE
 }
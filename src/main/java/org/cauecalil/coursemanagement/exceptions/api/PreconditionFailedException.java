@@ -0,0 +1,9 @@
+package org.cauecalil.coursemanagement.exceptions.api;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionFailedException extends ApiException {
+    public PreconditionFailedException(ApiErrorCode code, String message) {
+        super(HttpStatus.PRECONDITION_FAILED, code, message);
+    }
+}
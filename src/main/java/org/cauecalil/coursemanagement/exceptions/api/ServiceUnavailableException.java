@@ -0,0 +1,9 @@
+package org.cauecalil.coursemanagement.exceptions.api;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends ApiException {
+    public ServiceUnavailableException(ApiErrorCode code, String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, code, message);
+    }
+}
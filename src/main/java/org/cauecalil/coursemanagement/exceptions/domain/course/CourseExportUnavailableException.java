@@ -0,0 +1,10 @@
+package org.cauecalil.coursemanagement.exceptions.domain.course;
+
+import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
+import org.cauecalil.coursemanagement.exceptions.api.ServiceUnavailableException;
+
+public class CourseExportUnavailableException extends ServiceUnavailableException {
+    public CourseExportUnavailableException() {
+        super(ApiErrorCode.COURSE_EXPORT_UNAVAILABLE, "Too many course exports running, try again shortly");
+    }
+}
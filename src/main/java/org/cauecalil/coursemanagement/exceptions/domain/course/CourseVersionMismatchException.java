@@ -0,0 +1,10 @@
+package org.cauecalil.coursemanagement.exceptions.domain.course;
+
+import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
+import org.cauecalil.coursemanagement.exceptions.api.PreconditionFailedException;
+
+public class CourseVersionMismatchException extends PreconditionFailedException {
+    public CourseVersionMismatchException() {
+        super(ApiErrorCode.COURSE_VERSION_MISMATCH, "Course has changed since the version in If-Match");
+    }
+}
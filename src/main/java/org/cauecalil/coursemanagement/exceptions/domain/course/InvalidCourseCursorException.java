@@ -0,0 +1,10 @@
+package org.cauecalil.coursemanagement.exceptions.domain.course;
+
+import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
+import org.cauecalil.coursemanagement.exceptions.api.BadRequestException;
+
+public class InvalidCourseCursorException extends BadRequestException {
+    public InvalidCourseCursorException() {
+        super(ApiErrorCode.INVALID_COURSE_CURSOR, "Invalid course cursor");
+    }
+}
@@ -0,0 +1,10 @@
+package org.cauecalil.coursemanagement.exceptions.domain.security;
+
+import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
+import org.cauecalil.coursemanagement.exceptions.api.ServiceUnavailableException;
+
+public class PasswordHashingUnavailableException extends ServiceUnavailableException {
+    public PasswordHashingUnavailableException() {
+        super(ApiErrorCode.PASSWORD_HASHING_UNAVAILABLE, "Too many authentication requests, try again shortly");
+    }
+}
@@ -1,14 +1,19 @@
 package org.cauecalil.coursemanagement.exceptions.handlers;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
-import lombok.RequiredArgsConstructor;
 import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
 import org.cauecalil.coursemanagement.exceptions.api.ApiException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseAlreadyExistsException;
+import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorAlreadyExistsException;
 import org.cauecalil.coursemanagement.exceptions.dtos.ApiErrorResponseDTO;
 import org.cauecalil.coursemanagement.exceptions.dtos.FieldValidationErrorDTO;
 import org.cauecalil.coursemanagement.exceptions.dtos.ValidationErrorResponseDTO;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.TransactionSystemException;
@@ -17,12 +22,32 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @RestControllerAdvice
-@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private static final Map<String, Supplier<ApiException>> CONSTRAINT_EXCEPTIONS = Map.of(
+            "uq_courses_name_lower", CourseAlreadyExistsException::new,
+            "uq_professors_email", ProfessorAlreadyExistsException::new
+    );
+
     private final MessageSource messageSource;
+    private final Map<ApiErrorCode, Counter> errorCounters = new EnumMap<>(ApiErrorCode.class);
+
+    public GlobalExceptionHandler(MessageSource messageSource, MeterRegistry meterRegistry) {
+        this.messageSource = messageSource;
+
+        // registered up front so every code is scraped as 0 before its first occurrence
+        for (var code : ApiErrorCode.values()) {
+            errorCounters.put(code, Counter.builder("api.errors")
+                    .description("Error responses by API error code")
+                    .tag("code", code.name())
+                    .register(meterRegistry));
+        }
+    }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponseDTO> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
@@ -33,6 +58,8 @@ public class GlobalExceptionHandler {
             errors.add(new FieldValidationErrorDTO(message, err.getField()));
         });
 
+        errorCounters.get(ApiErrorCode.VALIDATION_ERROR).increment();
+
         return ResponseEntity.badRequest().body(
                 new ValidationErrorResponseDTO(
                         ApiErrorCode.VALIDATION_ERROR.name(),
@@ -48,6 +75,8 @@ public class GlobalExceptionHandler {
                 .map(v -> new FieldValidationErrorDTO(v.getMessage(), v.getPropertyPath().toString()))
                 .toList();
 
+        errorCounters.get(ApiErrorCode.VALIDATION_ERROR).increment();
+
         return ResponseEntity.badRequest().body(
                 new ValidationErrorResponseDTO(
                         ApiErrorCode.VALIDATION_ERROR.name(),
@@ -65,6 +94,8 @@ public class GlobalExceptionHandler {
             return handleConstraintViolation(cve);
         }
 
+        errorCounters.get(ApiErrorCode.INTERNAL_SERVER_ERROR).increment();
+
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                 new ValidationErrorResponseDTO(
                         ApiErrorCode.INTERNAL_SERVER_ERROR.name(),
@@ -74,9 +105,35 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // unique indexes are the source of truth for uniqueness, so their violations become domain errors
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponseDTO> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (ex.getCause() instanceof org.hibernate.exception.ConstraintViolationException cve && cve.getConstraintName() != null) {
+            var exception = CONSTRAINT_EXCEPTIONS.get(cve.getConstraintName());
+
+            if (exception != null) {
+                return handleApiException(exception.get());
+            }
+        }
+
+        errorCounters.get(ApiErrorCode.CONFLICT).increment();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ApiErrorResponseDTO(ApiErrorCode.CONFLICT.name(), "Data integrity violation")
+        );
+    }
+
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<ApiErrorResponseDTO> handleApiException(ApiException ex) {
-        return ResponseEntity.status(ex.getStatus()).body(
+        errorCounters.get(ex.getErrorCode()).increment();
+        var response = ResponseEntity.status(ex.getStatus());
+
+        // shed load is transient, tell well-behaved clients when to come back
+        if (ex.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+
+        return response.body(
                 new ApiErrorResponseDTO(ex.getErrorCode().name(), ex.getMessage())
         );
     }
@@ -84,6 +141,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponseDTO> handleGeneric(Exception ex) {
         ex.printStackTrace();
+        errorCounters.get(ApiErrorCode.INTERNAL_SERVER_ERROR).increment();
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                 new ApiErrorResponseDTO(ApiErrorCode.INTERNAL_SERVER_ERROR.name(), "Unexpected error")
         );
@@ -0,0 +1,182 @@
+package org.cauecalil.coursemanagement.modules.course.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.cauecalil.coursemanagement.config.datasource.ReadYourWrites;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesPageResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesQueryDTO;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for small course search pages. Pages are keyed by the catalog version they
+ * were loaded under, so a write on another node turns them into misses instead of stale hits.
+ * Writes on this node also evict the pages they can affect right away: pages listing a changed
+ * course, and pages whose filters a new name/category matches.
+ */
+@Component
+public class CourseSearchCache {
+    private final boolean enabled;
+    private final int maxItems;
+    private final Cache<Key, FindCoursesPageResponseDTO> cache;
+
+    // bumped on every invalidation so loads that raced a write don't cache what they read
+    private final AtomicLong generation = new AtomicLong();
+
+    // with read replicas a load can still miss a write that committed shortly before it
+    private final Duration staleReadWindow;
+    private final ConcurrentLinkedDeque<RecentChange> recentChanges = new ConcurrentLinkedDeque<>();
+
+    @Autowired
+    public CourseSearchCache(
+            @Value("${courses.search-cache.enabled}") boolean enabled,
+            @Value("${courses.search-cache.max-size}") long maxSize,
+            @Value("${courses.search-cache.ttl}") Duration ttl,
+            @Value("${courses.search-cache.max-items}") int maxItems,
+            MeterRegistry meterRegistry,
+            ReadYourWrites readYourWrites
+    ) {
+        this(enabled, maxSize, ttl, maxItems, meterRegistry, readYourWrites.staleReadWindow());
+    }
+
+    public CourseSearchCache(
+            boolean enabled,
+            long maxSize,
+            Duration ttl,
+            int maxItems,
+            MeterRegistry meterRegistry,
+            Duration staleReadWindow
+    ) {
+        this.enabled = enabled;
+        this.maxItems = maxItems;
+        this.staleReadWindow = staleReadWindow;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "course.search");
+    }
+
+    // expects the query with its limit and sort defaults already applied, and the catalog version
+    // read before the page, so the page is never older than the version it is cached under
+    public FindCoursesPageResponseDTO get(FindCoursesQueryDTO query, long catalogVersion, Supplier<FindCoursesPageResponseDTO> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        var key = Key.of(query, catalogVersion);
+        var cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var observed = generation.get();
+        var page = loader.get();
+
+        if (page.items().size() <= maxItems && !mayBeStale(key, page)) {
+            cache.put(key, page);
+
+            // a write committed while we were loading, what we read may already be stale
+            if (generation.get() != observed) {
+                cache.invalidate(key);
+            }
+        }
+
+        return page;
+    }
+
+    // after commit, so a concurrent search can't reload the old rows once we've evicted
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesChanged(CoursesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        generation.incrementAndGet();
+
+        if (staleReadWindow.isPositive()) {
+            recentChanges.addLast(new RecentChange(System.nanoTime(), event));
+        }
+
+        cache.asMap().entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), event));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    // serve it, but don't cache it while a write it could have missed is within the window
+    private boolean mayBeStale(Key key, FindCoursesPageResponseDTO page) {
+        if (recentChanges.isEmpty()) {
+            return false;
+        }
+
+        var cutoff = System.nanoTime() - staleReadWindow.toNanos();
+
+        for (var oldest = recentChanges.peekFirst(); oldest != null && oldest.at() - cutoff < 0; oldest = recentChanges.peekFirst()) {
+            recentChanges.remove(oldest);
+        }
+
+        return recentChanges.stream().anyMatch(change -> isAffected(key, page, change.event()));
+    }
+
+    private static boolean isAffected(Key key, FindCoursesPageResponseDTO page, CoursesChangedEvent event) {
+        if (!event.ids().isEmpty() && page.items().stream().anyMatch(item -> event.ids().contains(item.id()))) {
+            return true;
+        }
+
+        return event.matches().stream()
+                .anyMatch(match -> matches(key.name(), match.name()) && matches(key.category(), match.category()));
+    }
+
+    // mirrors the ILIKE '%filter%' search, erring on the side of evicting
+    private static boolean matches(String filter, String value) {
+        if (filter == null || value == null) {
+            return true;
+        }
+
+        // % and _ are wildcards to ILIKE, only a plain substring can be ruled out here
+        if (filter.indexOf('%') >= 0 || filter.indexOf('_') >= 0 || filter.indexOf('\\') >= 0) {
+            return true;
+        }
+
+        return value.toLowerCase(Locale.ROOT).contains(filter);
+    }
+
+    private record RecentChange(long at, CoursesChangedEvent event) {
+    }
+
+    // ILIKE ignores case, so searches differing only in case share an entry
+    record Key(String name, String category, String cursor, int limit, CourseSortDTO sort, long catalogVersion) {
+        static Key of(FindCoursesQueryDTO query, long catalogVersion) {
+            return new Key(
+                    lowerCase(query.name()),
+                    lowerCase(query.category()),
+                    query.cursor(),
+                    query.limit(),
+                    query.sort(),
+                    catalogVersion
+            );
+        }
+
+        private static String lowerCase(String value) {
+            return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.cauecalil.coursemanagement.config.openapi.ApiAuthCommonErrors;
@@ -16,14 +17,20 @@ import org.cauecalil.coursemanagement.config.openapi.ApiInternalServerErrorRespo
 import org.cauecalil.coursemanagement.config.openapi.ApiValidationErrorResponse;
 import org.cauecalil.coursemanagement.exceptions.dtos.ApiErrorResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.dtos.*;
+import org.cauecalil.coursemanagement.modules.course.export.CourseExportLimiter;
 import org.cauecalil.coursemanagement.modules.course.services.*;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
-import java.util.List;
+import java.util.ArrayList;
 import java.util.UUID;
 
 @RestController
@@ -32,37 +39,109 @@ import java.util.UUID;
 @Tag(name = "Courses", description = "Course management endpoints")
 public class CourseController {
     private final CreateCourseService createCourseService;
+    private final CreateCoursesBatchService createCoursesBatchService;
     private final FindCoursesService findCoursesService;
+    private final GetCourseCatalogVersionService getCourseCatalogVersionService;
     private final EditCourseService editCourseService;
     private final DeleteCourseService deleteCourseService;
     private final ToggleCourseActiveService toggleCourseActiveService;
+    private final ExportCoursesService exportCoursesService;
+    private final ApplyCourseBatchOperationService applyCourseBatchOperationService;
+    private final CourseExportLimiter courseExportLimiter;
 
     @GetMapping
     @Operation(
             summary = "List all courses",
-            description = "Retrieve a list of courses with optional filtering by name and category"
+            description = "Retrieve a page of courses ordered by creation date with optional filtering by name and category. Use the returned nextCursor to fetch the following page."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Courses retrieved successfully",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = FindCoursesResponseDTO.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindCoursesPageResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Courses unchanged since the ETag sent in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor provided (INVALID_COURSE_CURSOR)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
             )
     })
+    @ApiValidationErrorResponse
     @ApiInternalServerErrorResponse
-    public ResponseEntity<List<FindCoursesResponseDTO>> findCourses(
-            @Parameter(description = "Query parameters for filtering courses")
-            @ModelAttribute FindCoursesQueryDTO query
+    public ResponseEntity<FindCoursesPageResponseDTO> findCourses(
+            @Parameter(description = "Query parameters for filtering and paginating courses")
+            @ModelAttribute @Valid FindCoursesQueryDTO query,
+
+            @Parameter(hidden = true)
+            WebRequest webRequest
     ) {
-        var result = findCoursesService.execute(query);
-        return ResponseEntity.ok(result);
+        // a 16-row sum answers unchanged polls before the page is queried or serialized;
+        // checkNotModified also writes the ETag header on the full response
+        var version = getCourseCatalogVersionService.execute();
+
+        if (webRequest.checkNotModified(version.etag())) {
+            return null;
+        }
+
+        var result = findCoursesService.execute(query, version);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(result);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('PROFESSOR')")
+    @Operation(
+            summary = "Export all courses",
+            description = "Streams the whole course catalog ordered by creation date, either as newline-delimited JSON (default) or as a single JSON array. Rows are written as they are read from the database."
+    )
+    @SecurityRequirement(name = "jwt_auth")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Course catalog streamed successfully",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = FindCoursesResponseDTO.class)),
+                            @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = FindCoursesResponseDTO.class)))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many exports running (COURSE_EXPORT_UNAVAILABLE)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
+            )
+    })
+    @ApiAuthCommonErrors
+    @ApiInternalServerErrorResponse
+    public WebAsyncTask<Void> exportCourses(
+            @Parameter(description = "Output format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") CourseExportFormatDTO format,
+
+            @Parameter(hidden = true)
+            HttpServletResponse response
+    ) {
+        var mediaType = switch (format) {
+            case NDJSON -> MediaType.APPLICATION_NDJSON;
+            case JSON -> MediaType.APPLICATION_JSON;
+        };
+
+        // written straight to the response, so only this request gets the export timeout
+        response.setContentType(mediaType.toString());
+        return courseExportLimiter.submit(() -> {
+            exportCoursesService.execute(format, response.getOutputStream());
+            return null;
+        });
     }
 
     @PostMapping
     @PreAuthorize("hasAnyRole('PROFESSOR')")
     @Operation(
             summary = "Create a new course",
-            description = "Creates a new course associated with the authenticated professor. The course is created as active by default."
+            description = "Creates a new course associated with the authenticated professor. The course is created as active by default. The ETag header carries its version for a later If-Match."
     )
     @SecurityRequirement(name = "jwt_auth")
     @ApiResponses({
@@ -94,7 +173,77 @@ public class CourseController {
     ) {
         UUID professorId = UUID.fromString(userId);
         var result = createCourseService.execute(request, professorId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(etag(result.version()))
+                .body(result);
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('PROFESSOR')")
+    @Operation(
+            summary = "Create courses in bulk",
+            description = "Creates up to 500 courses for the authenticated professor in a single transaction. Names that already exist, or repeat within the batch, are skipped and reported per item."
+    )
+    @SecurityRequirement(name = "jwt_auth")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CreateCoursesBatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Professor not found with the provided ID",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
+            )
+    })
+    @ApiValidationErrorResponse
+    @ApiAuthCommonErrors
+    @ApiInternalServerErrorResponse
+    public ResponseEntity<CreateCoursesBatchResponseDTO> createCoursesBatch(
+            @Parameter(description = "Courses to be created", required = true)
+            @RequestBody @Valid CreateCoursesBatchRequestDTO request,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal String userId
+    ) {
+        UUID professorId = UUID.fromString(userId);
+        var result = createCoursesBatchService.execute(request, professorId);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/batch/operations")
+    @PreAuthorize("hasAnyRole('PROFESSOR')")
+    @Operation(
+            summary = "Apply an operation to many courses",
+            description = "Activates, deactivates, toggles, re-categorizes or deletes up to 500 of the authenticated professor's courses in one transaction. Courses that do not exist or belong to another professor are reported per ID and left untouched."
+    )
+    @SecurityRequirement(name = "jwt_auth")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-ID outcomes",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CourseBatchOperationResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "SET_CATEGORY requested without a category (INVALID_COURSE_UPDATE)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
+            )
+    })
+    @ApiValidationErrorResponse
+    @ApiAuthCommonErrors
+    @ApiInternalServerErrorResponse
+    public ResponseEntity<CourseBatchOperationResponseDTO> applyCourseBatchOperation(
+            @Parameter(description = "Course IDs and the operation to apply", required = true)
+            @RequestBody @Valid CourseBatchOperationRequestDTO request,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal String userId
+    ) {
+        UUID professorId = UUID.fromString(userId);
+        var result = applyCourseBatchOperationService.execute(request, professorId);
+        return ResponseEntity.ok(result);
     }
 
     @PutMapping("/{id}")
@@ -110,6 +259,11 @@ public class CourseController {
                     description = "Course updated successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EditCourseResponseDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The course changed since the ETag sent in If-Match (COURSE_VERSION_MISMATCH)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Course not found with the provided ID",
@@ -131,12 +285,17 @@ public class CourseController {
             @Parameter(description = "Updated course data", required = true)
             @RequestBody @Valid EditCourseRequestDTO request,
 
+            @Parameter(description = "ETag of the version being changed, from a previous edit or the course's version in the list")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal String userId
     ) {
         UUID professorId = UUID.fromString(userId);
-        var result = editCourseService.execute(id, request, professorId);
-        return ResponseEntity.ok(result);
+        var result = editCourseService.execute(id, request, professorId, expectedVersions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(etag(result.version()))
+                .body(result);
     }
 
     @DeleteMapping("/{id}")
@@ -151,6 +310,11 @@ public class CourseController {
                     responseCode = "204",
                     description = "Course deleted successfully"
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The course changed since the ETag sent in If-Match (COURSE_VERSION_MISMATCH)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Course not found with the provided ID",
@@ -164,11 +328,14 @@ public class CourseController {
             @Parameter(description = "Course ID to delete", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
 
+            @Parameter(description = "ETag of the version being changed, from a previous edit or the course's version in the list")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal String userId
     ) {
         UUID professorId = UUID.fromString(userId);
-        deleteCourseService.execute(id, professorId);
+        deleteCourseService.execute(id, professorId, expectedVersions(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -181,8 +348,14 @@ public class CourseController {
     @SecurityRequirement(name = "jwt_auth")
     @ApiResponses({
             @ApiResponse(
-                    responseCode = "204",
-                    description = "Course status toggled successfully"
+                    responseCode = "200",
+                    description = "Course status toggled successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ToggleCourseActiveResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The course changed since the ETag sent in If-Match (COURSE_VERSION_MISMATCH)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponseDTO.class))
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -193,15 +366,51 @@ public class CourseController {
     @ApiValidationErrorResponse
     @ApiAuthCommonErrors
     @ApiInternalServerErrorResponse
-    public ResponseEntity<Void> toggleCourseActive(
+    public ResponseEntity<ToggleCourseActiveResponseDTO> toggleCourseActive(
             @Parameter(description = "Course ID to toggle status", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
 
+            @Parameter(description = "ETag of the version being changed, from a previous edit or the course's version in the list")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @Parameter(hidden = true)
             @AuthenticationPrincipal String userId
     ) {
         UUID professorId = UUID.fromString(userId);
-        toggleCourseActiveService.execute(id, professorId);
-        return ResponseEntity.noContent().build();
+        var result = toggleCourseActiveService.execute(id, professorId, expectedVersions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(etag(result.version()))
+                .body(result);
+    }
+
+    private static String etag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match uses strong comparison: "*" matches any version, a list matches when any of its tags
+    // does, weak or malformed tags match none; the write still runs so a missing or foreign course
+    // answers 404/403 rather than 412
+    private static Long[] expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        var versions = new ArrayList<Long>();
+
+        for (var element : ifMatch.split(",")) {
+            var tag = element.trim();
+
+            if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException ignored) {
+                // not one of our tags, so it can't match
+            }
+        }
+
+        return versions.toArray(Long[]::new);
     }
 }
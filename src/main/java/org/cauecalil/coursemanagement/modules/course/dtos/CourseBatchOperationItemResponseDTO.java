@@ -0,0 +1,11 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record CourseBatchOperationItemResponseDTO(
+        UUID id,
+        CourseBatchOperationOutcomeDTO outcome
+) {}
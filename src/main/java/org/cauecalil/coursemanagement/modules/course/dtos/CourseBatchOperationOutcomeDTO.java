@@ -0,0 +1,7 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+public enum CourseBatchOperationOutcomeDTO {
+    APPLIED,
+    NOT_FOUND,
+    NOT_OWNER
+}
@@ -0,0 +1,23 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import org.hibernate.validator.constraints.Length;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record CourseBatchOperationRequestDTO(
+        @NotEmpty
+        @Size(max = 500)
+        List<@NotNull UUID> ids,
+
+        @NotNull
+        CourseBatchOperationTypeDTO operation,
+
+        @Length(min = 5, max = 100)
+        String category
+) {}
@@ -0,0 +1,12 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CourseBatchOperationResponseDTO(
+        CourseBatchOperationTypeDTO operation,
+        int applied,
+        List<CourseBatchOperationItemResponseDTO> results
+) {}
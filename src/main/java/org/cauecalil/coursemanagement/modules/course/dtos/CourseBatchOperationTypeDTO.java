@@ -0,0 +1,9 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+public enum CourseBatchOperationTypeDTO {
+    ACTIVATE,
+    DEACTIVATE,
+    TOGGLE_ACTIVE,
+    SET_CATEGORY,
+    DELETE
+}
@@ -0,0 +1,11 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+// bumped in the same transaction as every insert, update or delete of a course,
+// so a snapshot that sees a change also sees the version it produced
+public record CourseCatalogVersionDTO(
+        Long version
+) {
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,39 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record CourseCursorDTO(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        var raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CourseCursorDTO decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separatorIndex = raw.indexOf(SEPARATOR);
+
+            if (separatorIndex < 0) {
+                throw new InvalidCourseCursorException();
+            }
+
+            return new CourseCursorDTO(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCourseCursorException();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+public enum CourseExportFormatDTO {
+    NDJSON,
+    JSON
+}
@@ -0,0 +1,10 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import lombok.Builder;
+
+@Builder
+public record CreateCourseBatchItemResponseDTO(
+        int index,
+        CreateCourseBatchStatusDTO status,
+        CreateCourseResponseDTO course
+) {}
@@ -0,0 +1,7 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+public enum CreateCourseBatchStatusDTO {
+    CREATED,
+    ALREADY_EXISTS,
+    DUPLICATE_IN_BATCH
+}
@@ -12,6 +12,7 @@ public record CreateCourseResponseDTO(
         String category,
         Boolean active,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {}
 
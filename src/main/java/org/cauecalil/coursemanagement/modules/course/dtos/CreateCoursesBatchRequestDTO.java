@@ -0,0 +1,15 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CreateCoursesBatchRequestDTO(
+        @NotEmpty
+        @Size(max = 500)
+        List<@Valid CreateCourseRequestDTO> courses
+) {}
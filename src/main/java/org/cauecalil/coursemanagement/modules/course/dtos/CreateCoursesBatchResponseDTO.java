@@ -0,0 +1,11 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CreateCoursesBatchResponseDTO(
+        int created,
+        List<CreateCourseBatchItemResponseDTO> results
+) {}
@@ -1,13 +1,17 @@
 package org.cauecalil.coursemanagement.modules.course.dtos;
 
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 
+// the update is a native statement, so entity validation never sees these values
 @Builder
 public record EditCourseRequestDTO(
         @Size(min = 5, max = 100)
+        @Pattern(regexp = "(?s).*\\S.*", message = "{jakarta.validation.constraints.NotBlank.message}")
         String name,
 
         @Size(min = 5, max = 100)
+        @Pattern(regexp = "(?s).*\\S.*", message = "{jakarta.validation.constraints.NotBlank.message}")
         String category
 ) {}
@@ -12,5 +12,6 @@ public record EditCourseResponseDTO(
         String category,
         Boolean active,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {}
@@ -1,9 +1,18 @@
 package org.cauecalil.coursemanagement.modules.course.dtos;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Builder;
 
 @Builder
 public record FindCoursesQueryDTO(
       String name,
-      String category
+      String category,
+      String cursor,
+
+      @Min(1)
+      @Max(100)
+      Integer limit,
+
+      CourseSortDTO sort
 ) {}
@@ -0,0 +1,12 @@
+package org.cauecalil.coursemanagement.modules.course.dtos;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record ToggleCourseActiveResponseDTO(
+        UUID id,
+        Boolean active,
+        Long version
+) {}
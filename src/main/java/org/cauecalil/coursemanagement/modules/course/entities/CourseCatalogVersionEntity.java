@@ -0,0 +1,23 @@
+package org.cauecalil.coursemanagement.modules.course.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// one stripe of the catalog version, bumped by the trg_courses_version_* triggers and never written by the application
+@Getter
+@NoArgsConstructor
+@Immutable
+@Entity
+@Table(name = "course_catalog_versions")
+public class CourseCatalogVersionEntity {
+    @Id
+    private Short slot;
+
+    @Column(nullable = false)
+    private Long version;
+}
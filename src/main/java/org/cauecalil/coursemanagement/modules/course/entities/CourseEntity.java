@@ -7,6 +7,7 @@ import lombok.*;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.validator.constraints.Length;
 
 import java.time.LocalDateTime;
@@ -18,10 +19,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "courses")
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_courses_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_courses_professor_id", columnList = "professor_id")
+})
 public class CourseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    // time-ordered, so new rows append to the primary key index instead of splitting random pages
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     private UUID id;
 
     @NotBlank
@@ -37,7 +42,7 @@ public class CourseEntity {
     private Boolean active = true;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "professor_id", nullable = false)
+    @JoinColumn(name = "professor_id", nullable = false, foreignKey = @ForeignKey(name = "fk_courses_professor"))
     private ProfessorEntity professor;
 
     @CreationTimestamp
@@ -45,4 +50,8 @@ public class CourseEntity {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
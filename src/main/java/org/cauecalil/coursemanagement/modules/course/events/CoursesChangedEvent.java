@@ -0,0 +1,35 @@
+package org.cauecalil.coursemanagement.modules.course.events;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the course write services once the change is part of their transaction.
+ * {@code ids} are courses whose current rows changed or disappeared, {@code matches} are the
+ * name/category values courses now carry and may therefore show up under new filters.
+ */
+public record CoursesChangedEvent(
+        Set<UUID> ids,
+        List<Match> matches
+) {
+    // a null field stands for "unknown", e.g. a bulk category change does not load the names
+    public record Match(String name, String category) {}
+
+    public static CoursesChangedEvent updated(UUID id) {
+        return new CoursesChangedEvent(Set.of(id), List.of());
+    }
+
+    public static CoursesChangedEvent updated(UUID id, String name, String category) {
+        return new CoursesChangedEvent(Set.of(id), List.of(new Match(name, category)));
+    }
+
+    public static CoursesChangedEvent updated(Collection<UUID> ids) {
+        return new CoursesChangedEvent(Set.copyOf(ids), List.of());
+    }
+
+    public static CoursesChangedEvent created(List<Match> matches) {
+        return new CoursesChangedEvent(Set.of(), matches);
+    }
+}
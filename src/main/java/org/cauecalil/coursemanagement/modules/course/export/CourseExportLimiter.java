@@ -0,0 +1,45 @@
+package org.cauecalil.coursemanagement.modules.course.export;
+
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseExportUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs course exports as async requests with their own timeout, at most
+ * {@code courses.export.max-concurrent} at a time. Each export holds a pooled connection for as
+ * long as the client keeps reading, so the rest are turned away instead of draining the pool.
+ */
+@Component
+public class CourseExportLimiter {
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public CourseExportLimiter(
+            @Value("${courses.export.max-concurrent}") int maxConcurrent,
+            @Value("${courses.export.timeout}") Duration timeout
+    ) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+    }
+
+    // the permit is taken on the async thread before anything is written, so a rejection still
+    // renders as a 503 and a task that never runs never holds one
+    public <T> WebAsyncTask<T> submit(Callable<T> export) {
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            if (!permits.tryAcquire()) {
+                throw new CourseExportUnavailableException();
+            }
+
+            try {
+                return export.call();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
@@ -1,20 +1,117 @@
 package org.cauecalil.coursemanagement.modules.course.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface CourseRepository extends JpaRepository<CourseEntity, UUID> {
-    boolean existsByNameIgnoreCase(String name);
+public interface CourseRepository extends JpaRepository<CourseEntity, UUID>, CourseSearchRepository {
+    @Query("SELECT LOWER(c.name) FROM CourseEntity c WHERE LOWER(c.name) IN :names")
+    Set<String> findExistingLowerCaseNames(Collection<String> names);
 
+    // one multi-row insert; a name another request took after findExistingLowerCaseNames is skipped
+    // by ON CONFLICT instead of aborting the whole batch, so it is simply missing from the result
+    @Query(value = """
+        INSERT INTO courses (id, name, category, active, professor_id, version, created_at, updated_at)
+        SELECT c.id, c.name, c.category, TRUE, :professorId, 0, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM unnest(CAST(:ids AS UUID[]), CAST(:names AS VARCHAR[]), CAST(:categories AS VARCHAR[])) AS c(id, name, category)
+        ON CONFLICT DO NOTHING
+        RETURNING *
+    """, nativeQuery = true)
+    List<CourseEntity> insertSkippingConflicts(UUID professorId, UUID[] ids, String[] names, String[] categories);
+
+    Optional<CourseEntity> findByIdAndProfessorId(UUID id, UUID professorId);
+
+    // conditional writes: null versions skip the If-Match check, otherwise the row must be at one of
+    // them (an empty array matches nothing); the WHERE clause does the rest, so no row is locked or
+    // read before it is changed; native statements skip @Version and @UpdateTimestamp, so both are
+    // maintained explicitly
+    @Query(value = """
+        UPDATE courses
+        SET name = COALESCE(:name, name),
+            category = COALESCE(:category, category),
+            version = version + 1,
+            updated_at = LOCALTIMESTAMP
+        WHERE id = :id AND professor_id = :professorId
+          AND (CAST(:versions AS BIGINT[]) IS NULL OR version = ANY(CAST(:versions AS BIGINT[])))
+        RETURNING *
+    """, nativeQuery = true)
+    Optional<CourseEntity> updateByIdAndProfessorId(UUID id, UUID professorId, Long[] versions, String name, String category);
+
+    // flips the flag in the row itself so concurrent toggles never lose an update
+    @Query(value = """
+        UPDATE courses
+        SET active = NOT active, version = version + 1, updated_at = LOCALTIMESTAMP
+        WHERE id = :id AND professor_id = :professorId
+          AND (CAST(:versions AS BIGINT[]) IS NULL OR version = ANY(CAST(:versions AS BIGINT[])))
+        RETURNING *
+    """, nativeQuery = true)
+    Optional<CourseEntity> toggleActiveByIdAndProfessorId(UUID id, UUID professorId, Long[] versions);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM courses
+        WHERE id = :id AND professor_id = :professorId
+          AND (CAST(:versions AS BIGINT[]) IS NULL OR version = ANY(CAST(:versions AS BIGINT[])))
+    """, nativeQuery = true)
+    int deleteByIdAndProfessorId(UUID id, UUID professorId, Long[] versions);
+
+    @Query("SELECT c.id FROM CourseEntity c WHERE c.id IN :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    // set-based variants of the single-course mutations, each returns the ids it actually touched
+    @Query(value = """
+        UPDATE courses
+        SET active = :active, version = version + 1, updated_at = LOCALTIMESTAMP
+        WHERE id IN (:ids) AND professor_id = :professorId
+        RETURNING id
+    """, nativeQuery = true)
+    List<UUID> setActiveByIdsAndProfessorId(Collection<UUID> ids, UUID professorId, boolean active);
+
+    @Query(value = """
+        UPDATE courses
+        SET active = NOT active, version = version + 1, updated_at = LOCALTIMESTAMP
+        WHERE id IN (:ids) AND professor_id = :professorId
+        RETURNING id
+    """, nativeQuery = true)
+    List<UUID> toggleActiveByIdsAndProfessorId(Collection<UUID> ids, UUID professorId);
+
+    @Query(value = """
+        UPDATE courses
+        SET category = :category, version = version + 1, updated_at = LOCALTIMESTAMP
+        WHERE id IN (:ids) AND professor_id = :professorId
+        RETURNING id
+    """, nativeQuery = true)
+    List<UUID> setCategoryByIdsAndProfessorId(Collection<UUID> ids, UUID professorId, String category);
+
+    @Query(value = """
+        DELETE FROM courses
+        WHERE id IN (:ids) AND professor_id = :professorId
+        RETURNING id
+    """, nativeQuery = true)
+    List<UUID> deleteByIdsAndProfessorId(Collection<UUID> ids, UUID professorId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
-        SELECT c
+        SELECT new org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO(
+            c.id, c.name, c.category, c.active, c.createdAt, c.updatedAt, c.version
+        )
         FROM CourseEntity c
-        WHERE (:name IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%')))
-            AND (:category IS NULL OR LOWER(c.category) LIKE LOWER(CONCAT('%', :category, '%')))
+        ORDER BY c.createdAt, c.id
     """)
-    List<CourseEntity> findCourses(String name, String category);
+    Stream<FindCoursesResponseDTO> streamCourses();
 }
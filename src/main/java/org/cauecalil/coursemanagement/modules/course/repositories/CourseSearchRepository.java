@@ -0,0 +1,14 @@
+package org.cauecalil.coursemanagement.modules.course.repositories;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCursorDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+
+import java.util.List;
+
+public interface CourseSearchRepository {
+    List<FindCoursesResponseDTO> findCourses(String name, String category, CourseSortDTO sort, CourseCursorDTO after, int limit);
+
+    CourseCatalogVersionDTO findCatalogVersion();
+}
@@ -0,0 +1,90 @@
+package org.cauecalil.coursemanagement.modules.course.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCursorDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class CourseSearchRepositoryImpl implements CourseSearchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FindCoursesResponseDTO> findCourses(String name, String category, CourseSortDTO sort, CourseCursorDTO after, int limit) {
+        List<String> predicates = new ArrayList<>();
+        List<String> relevanceScores = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        addFilters(name, category, predicates, parameters);
+
+        if (name != null) {
+            relevanceScores.add("CAST(FUNCTION('word_similarity', :name, c.name) AS Double)");
+        }
+
+        if (category != null) {
+            relevanceScores.add("CAST(FUNCTION('word_similarity', :category, c.category) AS Double)");
+        }
+
+        if (after != null) {
+            predicates.add("(c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId))");
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.id());
+        }
+
+        // selecting straight into the response record skips entity hydration and dirty-checking snapshots
+        var jpql = new StringBuilder("""
+                SELECT new org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO(
+                    c.id, c.name, c.category, c.active, c.createdAt, c.updatedAt, c.version
+                )
+                FROM CourseEntity c""");
+
+        if (!predicates.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+
+        jpql.append(" ORDER BY ");
+
+        if (sort == CourseSortDTO.RELEVANCE && !relevanceScores.isEmpty()) {
+            jpql.append(String.join(" + ", relevanceScores)).append(" DESC, ");
+        }
+
+        jpql.append("c.createdAt, c.id");
+
+        var query = entityManager.createQuery(jpql.toString(), FindCoursesResponseDTO.class)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public CourseCatalogVersionDTO findCatalogVersion() {
+        // one version for the whole catalog: a filtered one would miss courses edited out of the filter
+        return entityManager.createQuery("""
+                        SELECT new org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO(SUM(v.version))
+                        FROM CourseCatalogVersionEntity v""", CourseCatalogVersionDTO.class)
+                .getSingleResult();
+    }
+
+    // ILIKE on the raw columns is what the pg_trgm GIN indexes can serve
+    private static void addFilters(String name, String category, List<String> predicates, Map<String, Object> parameters) {
+        if (name != null) {
+            predicates.add("c.name ILIKE CONCAT('%', :name, '%')");
+            parameters.put("name", name);
+        }
+
+        if (category != null) {
+            predicates.add("c.category ILIKE CONCAT('%', :category, '%')");
+            parameters.put("category", category);
+        }
+    }
+}
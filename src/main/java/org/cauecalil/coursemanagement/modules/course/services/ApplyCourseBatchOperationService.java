@@ -0,0 +1,80 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
+import org.cauecalil.coursemanagement.modules.course.dtos.*;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class ApplyCourseBatchOperationService {
+    private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Observed(name = "service.execute", contextualName = "apply-course-batch-operation")
+    @Transactional
+    public CourseBatchOperationResponseDTO execute(CourseBatchOperationRequestDTO request, UUID professorId) {
+        var operation = request.operation();
+
+        if (operation == CourseBatchOperationTypeDTO.SET_CATEGORY && request.category() == null) {
+            throw new InvalidCourseUpdateException("You must provide a category for SET_CATEGORY");
+        }
+
+        var ids = new LinkedHashSet<>(request.ids());
+
+        // one statement for the whole batch, scoped to the professor's own courses
+        var applied = new HashSet<>(switch (operation) {
+            case ACTIVATE -> courseRepository.setActiveByIdsAndProfessorId(ids, professorId, true);
+            case DEACTIVATE -> courseRepository.setActiveByIdsAndProfessorId(ids, professorId, false);
+            case TOGGLE_ACTIVE -> courseRepository.toggleActiveByIdsAndProfessorId(ids, professorId);
+            case SET_CATEGORY -> courseRepository.setCategoryByIdsAndProfessorId(ids, professorId, request.category());
+            case DELETE -> courseRepository.deleteByIdsAndProfessorId(ids, professorId);
+        });
+
+        if (!applied.isEmpty()) {
+            // names aren't loaded for a category change, so every name filter counts as a match
+            eventPublisher.publishEvent(operation == CourseBatchOperationTypeDTO.SET_CATEGORY
+                    ? new CoursesChangedEvent(Set.copyOf(applied), List.of(new CoursesChangedEvent.Match(null, request.category())))
+                    : CoursesChangedEvent.updated(applied));
+        }
+
+        var skipped = ids.stream()
+                .filter(id -> !applied.contains(id))
+                .toList();
+
+        // a second query only when something was skipped, to tell missing from not owned
+        Set<UUID> existing = skipped.isEmpty()
+                ? Set.of()
+                : new HashSet<>(courseRepository.findExistingIds(skipped));
+
+        var results = ids.stream()
+                .map(id -> CourseBatchOperationItemResponseDTO.builder()
+                        .id(id)
+                        .outcome(outcomeFor(id, applied, existing))
+                        .build())
+                .toList();
+
+        return CourseBatchOperationResponseDTO.builder()
+                .operation(operation)
+                .applied(applied.size())
+                .results(results)
+                .build();
+    }
+
+    private static CourseBatchOperationOutcomeDTO outcomeFor(UUID id, Set<UUID> applied, Set<UUID> existing) {
+        if (applied.contains(id)) {
+            return CourseBatchOperationOutcomeDTO.APPLIED;
+        }
+
+        return existing.contains(id)
+                ? CourseBatchOperationOutcomeDTO.NOT_OWNER
+                : CourseBatchOperationOutcomeDTO.NOT_FOUND;
+    }
+}
@@ -0,0 +1,30 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import org.cauecalil.coursemanagement.exceptions.api.ApiException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseVersionMismatchException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+
+import java.util.UUID;
+
+// a conditional write that touched no row only says "not found, not yours or stale";
+// the failure path pays for one lookup to tell the client which
+final class CourseWriteMisses {
+    private CourseWriteMisses() {
+    }
+
+    static ApiException explain(CourseRepository courseRepository, UUID id, UUID professorId, String notOwnerMessage) {
+        var course = courseRepository.findById(id).orElse(null);
+
+        if (course == null) {
+            return new CourseNotFoundException();
+        }
+
+        if (!course.getProfessor().getId().equals(professorId)) {
+            return new InvalidCourseUpdateException(notOwnerMessage);
+        }
+
+        return new CourseVersionMismatchException();
+    }
+}
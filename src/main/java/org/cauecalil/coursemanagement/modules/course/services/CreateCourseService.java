@@ -1,15 +1,18 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseAlreadyExistsException;
 import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseRequestDTO;
 import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -17,22 +20,25 @@ import java.util.UUID;
 public class CreateCourseService {
     private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Observed(name = "service.execute", contextualName = "create-course")
     public CreateCourseResponseDTO execute(CreateCourseRequestDTO request, UUID professorId) {
         var professor = professorRepository.findById(professorId)
                 .orElseThrow(ProfessorNotFoundException::new);
 
-        if (courseRepository.existsByNameIgnoreCase(request.name())) {
-            throw new CourseAlreadyExistsException();
-        }
-
         CourseEntity course = CourseEntity.builder()
                 .name(request.name())
                 .category(request.category())
                 .professor(professor)
                 .build();
 
-        CourseEntity savedCourse = courseRepository.save(course);
+        // uq_courses_name_lower rejects duplicates, GlobalExceptionHandler maps it to COURSE_ALREADY_EXISTS
+        CourseEntity savedCourse = courseRepository.saveAndFlush(course);
+
+        eventPublisher.publishEvent(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match(savedCourse.getName(), savedCourse.getCategory())
+        )));
 
         return CreateCourseResponseDTO.builder()
                 .id(savedCourse.getId())
@@ -41,6 +47,7 @@ public class CreateCourseService {
                 .active(savedCourse.getActive())
                 .createdAt(savedCourse.getCreatedAt())
                 .updatedAt(savedCourse.getUpdatedAt())
+                .version(savedCourse.getVersion())
                 .build();
     }
 }
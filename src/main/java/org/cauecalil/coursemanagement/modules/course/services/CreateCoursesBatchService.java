@@ -0,0 +1,117 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
+import org.cauecalil.coursemanagement.modules.course.dtos.*;
+import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class CreateCoursesBatchService {
+    private final ProfessorRepository professorRepository;
+    private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Observed(name = "service.execute", contextualName = "create-courses-batch")
+    @Transactional
+    public CreateCoursesBatchResponseDTO execute(CreateCoursesBatchRequestDTO request, UUID professorId) {
+        if (!professorRepository.existsById(professorId)) {
+            throw new ProfessorNotFoundException();
+        }
+
+        var requests = request.courses();
+
+        // one set-based lookup on the lower(name) index instead of a query per item
+        var names = requests.stream()
+                .map(course -> normalize(course.name()))
+                .toList();
+        var existingNames = courseRepository.findExistingLowerCaseNames(new HashSet<>(names));
+
+        var statuses = new CreateCourseBatchStatusDTO[requests.size()];
+        var seenNames = new HashSet<String>();
+        List<Integer> pending = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            var name = names.get(i);
+
+            if (existingNames.contains(name)) {
+                statuses[i] = CreateCourseBatchStatusDTO.ALREADY_EXISTS;
+            } else if (!seenNames.add(name)) {
+                statuses[i] = CreateCourseBatchStatusDTO.DUPLICATE_IN_BATCH;
+            } else {
+                pending.add(i);
+            }
+        }
+
+        Map<String, CourseEntity> created = new HashMap<>();
+
+        if (!pending.isEmpty()) {
+            // ids are time-ordered v7, generated here as the entity mapping would
+            var ids = pending.stream().map(i -> UuidVersion7Strategy.INSTANCE.generateUuid(null)).toArray(UUID[]::new);
+            var pendingNames = pending.stream().map(i -> requests.get(i).name()).toArray(String[]::new);
+            var categories = pending.stream().map(i -> requests.get(i).category()).toArray(String[]::new);
+
+            for (var course : courseRepository.insertSkippingConflicts(professorId, ids, pendingNames, categories)) {
+                created.put(normalize(course.getName()), course);
+            }
+        }
+
+        // a pending name missing from the insert was taken concurrently after the lookup
+        for (var i : pending) {
+            statuses[i] = created.containsKey(names.get(i))
+                    ? CreateCourseBatchStatusDTO.CREATED
+                    : CreateCourseBatchStatusDTO.ALREADY_EXISTS;
+        }
+
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(CoursesChangedEvent.created(pending.stream()
+                    .map(i -> created.get(names.get(i)))
+                    .filter(Objects::nonNull)
+                    .map(course -> new CoursesChangedEvent.Match(course.getName(), course.getCategory()))
+                    .toList()));
+        }
+
+        List<CreateCourseBatchItemResponseDTO> results = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            var saved = statuses[i] == CreateCourseBatchStatusDTO.CREATED ? created.get(names.get(i)) : null;
+
+            results.add(CreateCourseBatchItemResponseDTO.builder()
+                    .index(i)
+                    .status(statuses[i])
+                    .course(saved != null ? toResponse(saved) : null)
+                    .build());
+        }
+
+        return CreateCoursesBatchResponseDTO.builder()
+                .created(created.size())
+                .results(results)
+                .build();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static CreateCourseResponseDTO toResponse(CourseEntity course) {
+        return CreateCourseResponseDTO.builder()
+                .id(course.getId())
+                .name(course.getName())
+                .category(course.getCategory())
+                .active(course.getActive())
+                .createdAt(course.getCreatedAt())
+                .updatedAt(course.getUpdatedAt())
+                .version(course.getVersion())
+                .build();
+    }
+}
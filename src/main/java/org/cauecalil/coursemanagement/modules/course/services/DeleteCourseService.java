@@ -1,32 +1,30 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
-import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class DeleteCourseService {
-    private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public void execute(UUID id, UUID professorId) {
-        var professor = professorRepository.findById(professorId)
-                .orElseThrow(ProfessorNotFoundException::new);
+    @Observed(name = "service.execute", contextualName = "delete-course")
+    @Transactional
+    public void execute(UUID id, UUID professorId, Long[] expectedVersions) {
+        var deleted = courseRepository.deleteByIdAndProfessorId(id, professorId, expectedVersions);
 
-        var course = courseRepository.findById(id)
-                .orElseThrow(CourseNotFoundException::new);
-
-        if (!course.getProfessor().getId().equals(professor.getId())) {
-            throw new InvalidCourseUpdateException("You can only delete your own courses");
+        if (deleted == 0) {
+            throw CourseWriteMisses.explain(courseRepository, id, professorId, "You can only delete your own courses");
         }
 
-        courseRepository.deleteById(id);
+        eventPublisher.publishEvent(CoursesChangedEvent.updated(id));
     }
 }
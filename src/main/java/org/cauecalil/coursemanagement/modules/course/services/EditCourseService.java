@@ -1,35 +1,27 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseAlreadyExistsException;
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
 import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.dtos.EditCourseRequestDTO;
 import org.cauecalil.coursemanagement.modules.course.dtos.EditCourseResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class EditCourseService {
-    private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public EditCourseResponseDTO execute(UUID id, EditCourseRequestDTO request, UUID professorId) {
-        var professor = professorRepository.findById(professorId)
-                .orElseThrow(ProfessorNotFoundException::new);
-
-        var course = courseRepository.findById(id)
-                .orElseThrow(CourseNotFoundException::new);
-
-        if (!course.getProfessor().getId().equals(professor.getId())) {
-            throw new InvalidCourseUpdateException("You can only edit your own courses");
-        }
-
+    @Observed(name = "service.execute", contextualName = "edit-course")
+    @Transactional
+    public EditCourseResponseDTO execute(UUID id, EditCourseRequestDTO request, UUID professorId, Long[] expectedVersions) {
         boolean hasName = request.name() != null;
         boolean hasCategory = request.category() != null;
 
@@ -37,17 +29,13 @@ public class EditCourseService {
             throw new InvalidCourseUpdateException("You must provide exactly one field: name or category");
         }
 
-        if (hasName) {
-            if (courseRepository.existsByNameIgnoreCase(request.name())) {
-                throw new CourseAlreadyExistsException();
-            }
-
-            course.setName(request.name());
-        } else {
-            course.setCategory(request.category());
-        }
+        // a single conditional UPDATE; uq_courses_name_lower still rejects duplicate names
+        var savedCourse = courseRepository.updateByIdAndProfessorId(id, professorId, expectedVersions, request.name(), request.category())
+                .orElseThrow(() -> CourseWriteMisses.explain(courseRepository, id, professorId, "You can only edit your own courses"));
 
-        var savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(CoursesChangedEvent.updated(
+                savedCourse.getId(), savedCourse.getName(), savedCourse.getCategory()
+        ));
 
         return EditCourseResponseDTO.builder()
                 .id(savedCourse.getId())
@@ -56,6 +44,7 @@ public class EditCourseService {
                 .active(savedCourse.getActive())
                 .createdAt(savedCourse.getCreatedAt())
                 .updatedAt(savedCourse.getUpdatedAt())
+                .version(savedCourse.getVersion())
                 .build();
     }
 }
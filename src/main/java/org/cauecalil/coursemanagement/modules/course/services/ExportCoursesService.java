@@ -0,0 +1,44 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseExportFormatDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportCoursesService {
+    private final CourseRepository courseRepository;
+    private final JsonMapper jsonMapper;
+
+    // the open transaction keeps the server-side cursor alive while rows are streamed out
+    @Observed(name = "service.execute", contextualName = "export-courses")
+    @Transactional(readOnly = true)
+    public void execute(CourseExportFormatDTO format, OutputStream output) throws IOException {
+        var writer = jsonMapper.writerFor(FindCoursesResponseDTO.class)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+
+        try (var courses = courseRepository.streamCourses()) {
+            if (format == CourseExportFormatDTO.JSON) {
+                try (var sequence = writer.writeValuesAsArray(output)) {
+                    courses.forEach(sequence::write);
+                }
+            } else {
+                try (var sequence = writer.withRootValueSeparator("\n").writeValues(output)) {
+                    courses.forEach(sequence::write);
+                }
+                output.write('\n');
+            }
+        }
+
+        output.flush();
+    }
+}
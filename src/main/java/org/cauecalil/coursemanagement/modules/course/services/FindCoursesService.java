@@ -1,8 +1,14 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseCursorException;
+import org.cauecalil.coursemanagement.modules.course.cache.CourseSearchCache;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCursorDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesPageResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesQueryDTO;
-import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.springframework.stereotype.Service;
 
@@ -11,20 +17,56 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class FindCoursesService {
+    public static final int DEFAULT_LIMIT = 20;
+
     private final CourseRepository courseRepository;
+    private final CourseSearchCache courseSearchCache;
+
+    // no transaction here: a cache hit never touches the database, the repository opens its own on a miss
+    @Observed(name = "service.execute", contextualName = "find-courses")
+    public FindCoursesPageResponseDTO execute(FindCoursesQueryDTO query, CourseCatalogVersionDTO catalogVersion) {
+        int limit = query.limit() != null ? query.limit() : DEFAULT_LIMIT;
+        var sort = query.sort() != null ? query.sort() : CourseSortDTO.CREATED_AT;
+
+        // relevance ranking is a top-N search, it has no stable position to resume from
+        if (sort == CourseSortDTO.RELEVANCE && query.cursor() != null) {
+            throw new InvalidCourseCursorException();
+        }
+
+        var after = query.cursor() != null ? CourseCursorDTO.decode(query.cursor()) : null;
+        var normalized = FindCoursesQueryDTO.builder()
+                .name(query.name())
+                .category(query.category())
+                .cursor(query.cursor())
+                .limit(limit)
+                .sort(sort)
+                .build();
+
+        return courseSearchCache.get(normalized, catalogVersion.version(), () -> findPage(normalized, after));
+    }
+
+    private FindCoursesPageResponseDTO findPage(FindCoursesQueryDTO query, CourseCursorDTO after) {
+        int limit = query.limit();
+        var sort = query.sort();
+        var paginated = sort == CourseSortDTO.CREATED_AT;
+
+        // one extra row tells us whether another page exists without a count query
+        var fetchSize = paginated ? limit + 1 : limit;
+        var courses = courseRepository.findCourses(query.name(), query.category(), sort, after, fetchSize);
+        var hasNext = courses.size() > limit;
+        var items = hasNext ? courses.subList(0, limit) : courses;
+
+        String nextCursor = null;
+
+        if (hasNext) {
+            var last = items.getLast();
+            nextCursor = new CourseCursorDTO(last.createdAt(), last.id()).encode();
+        }
 
-    public List<FindCoursesResponseDTO> execute(FindCoursesQueryDTO query) {
-        var courses = courseRepository.findCourses(query.name(), query.category());
-
-        return courses.stream().map(course ->
-                FindCoursesResponseDTO.builder()
-                        .id(course.getId())
-                        .name(course.getName())
-                        .category(course.getCategory())
-                        .active(course.getActive())
-                        .createdAt(course.getCreatedAt())
-                        .updatedAt(course.getUpdatedAt())
-                        .build()
-        ).toList();
+        return FindCoursesPageResponseDTO.builder()
+                // cached pages are shared between requests
+                .items(List.copyOf(items))
+                .nextCursor(nextCursor)
+                .build();
     }
 }
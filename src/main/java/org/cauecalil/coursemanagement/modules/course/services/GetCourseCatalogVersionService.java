@@ -0,0 +1,20 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetCourseCatalogVersionService {
+    private final CourseRepository courseRepository;
+
+    @Observed(name = "service.execute", contextualName = "get-course-catalog-version")
+    @Transactional(readOnly = true)
+    public CourseCatalogVersionDTO execute() {
+        return courseRepository.findCatalogVersion();
+    }
+}
@@ -1,34 +1,34 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
-import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
+import org.cauecalil.coursemanagement.modules.course.dtos.ToggleCourseActiveResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ToggleCourseActiveService {
-    private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public void execute(UUID id, UUID professorId) {
-        var professor = professorRepository.findById(professorId)
-                .orElseThrow(ProfessorNotFoundException::new);
+    @Observed(name = "service.execute", contextualName = "toggle-course-active")
+    @Transactional
+    public ToggleCourseActiveResponseDTO execute(UUID id, UUID professorId, Long[] expectedVersions) {
+        var course = courseRepository.toggleActiveByIdAndProfessorId(id, professorId, expectedVersions)
+                .orElseThrow(() -> CourseWriteMisses.explain(courseRepository, id, professorId, "You can only edit your own courses"));
 
-        var course = courseRepository.findById(id)
-                .orElseThrow(CourseNotFoundException::new);
+        eventPublisher.publishEvent(CoursesChangedEvent.updated(id));
 
-        if (!course.getProfessor().getId().equals(professor.getId())) {
-            throw new InvalidCourseUpdateException("You can only edit your own courses");
-        }
-
-        course.setActive(!course.getActive());
-
-        courseRepository.save(course);
+        return ToggleCourseActiveResponseDTO.builder()
+                .id(id)
+                .active(course.getActive())
+                .version(course.getVersion())
+                .build();
     }
 }
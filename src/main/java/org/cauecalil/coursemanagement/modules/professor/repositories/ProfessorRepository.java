@@ -2,11 +2,15 @@ package org.cauecalil.coursemanagement.modules.professor.repositories;
 
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProfessorRepository extends JpaRepository<ProfessorEntity, UUID> {
     boolean existsByEmail(String email);
+
+    // login lookup, served by a read replica when one is configured
+    @Transactional(readOnly = true)
     Optional<ProfessorEntity> findByEmail(String email);
 }
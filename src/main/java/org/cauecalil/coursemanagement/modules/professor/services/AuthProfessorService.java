@@ -1,9 +1,13 @@
 package org.cauecalil.coursemanagement.modules.professor.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.cauecalil.coursemanagement.config.datasource.ReadYourWrites;
 import org.cauecalil.coursemanagement.exceptions.domain.professor.InvalidCredentialsException;
+import org.cauecalil.coursemanagement.exceptions.domain.security.PasswordHashingUnavailableException;
 import org.cauecalil.coursemanagement.modules.professor.dtos.AuthProfessorRequestDTO;
 import org.cauecalil.coursemanagement.modules.professor.dtos.AuthProfessorResponseDTO;
+import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
 import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
 import org.cauecalil.coursemanagement.providers.JWTProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,9 +21,13 @@ public class AuthProfessorService {
     private final ProfessorRepository professorRepository;
     private final PasswordEncoder passwordEncoder;
     private final JWTProvider jwtProvider;
+    private final ReadYourWrites readYourWrites;
 
+    @Observed(name = "service.execute", contextualName = "auth-professor")
     public AuthProfessorResponseDTO execute(AuthProfessorRequestDTO request) {
+        // a professor who just registered may not have reached the replica yet
         var professor = professorRepository.findByEmail(request.email())
+                .or(() -> readYourWrites.retryOnPrimary(() -> professorRepository.findByEmail(request.email())))
                 .orElseThrow(InvalidCredentialsException::new);
 
         var passwordMatches = passwordEncoder.matches(request.password(), professor.getPassword());
@@ -28,6 +36,8 @@ public class AuthProfessorService {
             throw new InvalidCredentialsException();
         }
 
+        upgradePasswordHash(professor, request.password());
+
         var token = jwtProvider.generateToken(
                 professor.getId().toString(),
                 List.of("PROFESSOR")
@@ -38,4 +48,18 @@ public class AuthProfessorService {
                 .expires_at(token.expiresAt())
                 .build();
     }
+
+    // the raw password is only available here, so stale hashes are rewritten on login
+    private void upgradePasswordHash(ProfessorEntity professor, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(professor.getPassword())) {
+            return;
+        }
+
+        try {
+            professor.setPassword(passwordEncoder.encode(rawPassword));
+            professorRepository.save(professor);
+        } catch (PasswordHashingUnavailableException ex) {
+            // the login itself succeeded, the upgrade can wait for the next one
+        }
+    }
 }
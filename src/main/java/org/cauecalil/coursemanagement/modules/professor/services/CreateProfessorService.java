@@ -1,5 +1,6 @@
 package org.cauecalil.coursemanagement.modules.professor.services;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorAlreadyExistsException;
 import org.cauecalil.coursemanagement.modules.professor.dtos.CreateProfessorRequestDTO;
@@ -15,6 +16,7 @@ public class CreateProfessorService {
     private final ProfessorRepository professorRepository;
     private final PasswordEncoder passwordEncoder;
 
+    @Observed(name = "service.execute", contextualName = "create-professor")
     public CreateProfessorResponseDTO execute(CreateProfessorRequestDTO request) {
         if (professorRepository.existsByEmail(request.email())) {
             throw new ProfessorAlreadyExistsException();
@@ -0,0 +1,91 @@
+package org.cauecalil.coursemanagement.providers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// reloads keys from a mounted secrets directory so they can be rotated without a restart:
+// each <kid>.key file holds one secret and the optional active-key-id file names the signing key
+@Slf4j
+@Component
+@ConditionalOnProperty("security.token.keys-directory")
+@RequiredArgsConstructor
+public class JWTKeyDirectoryRefresher implements SchedulingConfigurer {
+    static final String KEY_FILE_SUFFIX = ".key";
+    static final String ACTIVE_KEY_FILE = "active-key-id";
+
+    private final JWTProvider jwtProvider;
+    private final JWTProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::refresh, properties.keysRefreshInterval());
+    }
+
+    public void refresh() {
+        var directory = properties.keysDirectory();
+
+        try {
+            var directorySecrets = readSecrets(directory);
+
+            if (directorySecrets.isEmpty()) {
+                return;
+            }
+
+            // the directory adds to the configured keys, so security.token.secret still verifies
+            // tokens without a kid; a file wins over a configured key with the same id
+            var secrets = properties.secrets();
+            secrets.putAll(directorySecrets);
+
+            var activeKeyFile = directory.resolve(ACTIVE_KEY_FILE);
+            var activeKeyId = Files.isRegularFile(activeKeyFile)
+                    ? Files.readString(activeKeyFile).strip()
+                    : properties.activeKeyId();
+
+            if (jwtProvider.hasKeys(secrets, activeKeyId)) {
+                return;
+            }
+
+            jwtProvider.rotateKeys(secrets, activeKeyId);
+            log.info("Rotated JWT keys from {}: active key '{}', {} key(s) accepted", directory, activeKeyId, secrets.size());
+        } catch (IOException | IllegalStateException | IllegalArgumentException ex) {
+            log.warn("Keeping current JWT keys, could not load keys from {}: {}", directory, ex.getMessage());
+        }
+    }
+
+    private static Map<String, String> readSecrets(Path directory) throws IOException {
+        Map<String, String> secrets = new HashMap<>();
+
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                var fileName = file.getFileName().toString();
+
+                if (!Files.isRegularFile(file) || !fileName.endsWith(KEY_FILE_SUFFIX)) {
+                    continue;
+                }
+
+                var keyId = fileName.substring(0, fileName.length() - KEY_FILE_SUFFIX.length());
+                var secret = Files.readString(file).strip();
+
+                // a file that is still being written, or was truncated, is not a usable HMAC key
+                if (secret.isEmpty()) {
+                    log.warn("Ignoring empty JWT key file {}", file);
+                    continue;
+                }
+
+                secrets.put(keyId, secret);
+            }
+        }
+
+        return secrets;
+    }
+}
@@ -0,0 +1,62 @@
+package org.cauecalil.coursemanagement.providers;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class JWTKeyRing {
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private final String activeKeyId;
+    private final Algorithm signer;
+    private final Map<String, JWTVerifier> verifiers;
+    private final Map<String, String> secrets;
+
+    private JWTKeyRing(String activeKeyId, Algorithm signer, Map<String, JWTVerifier> verifiers, Map<String, String> secrets) {
+        this.activeKeyId = activeKeyId;
+        this.signer = signer;
+        this.verifiers = verifiers;
+        this.secrets = secrets;
+    }
+
+    public static JWTKeyRing of(Map<String, String> secrets, String activeKeyId) {
+        if (!secrets.containsKey(activeKeyId)) {
+            throw new IllegalStateException("No JWT secret configured for active key id '" + activeKeyId + "'");
+        }
+
+        // Algorithm and JWTVerifier are immutable and thread-safe, so they are built once per key
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        Algorithm signer = null;
+
+        for (var entry : secrets.entrySet()) {
+            var algorithm = Algorithm.HMAC256(entry.getValue());
+            verifiers.put(entry.getKey(), JWT.require(algorithm).build());
+
+            if (entry.getKey().equals(activeKeyId)) {
+                signer = algorithm;
+            }
+        }
+
+        return new JWTKeyRing(activeKeyId, signer, Map.copyOf(verifiers), Map.copyOf(secrets));
+    }
+
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    public Algorithm signer() {
+        return signer;
+    }
+
+    // tokens issued before key ids were introduced carry no kid and were signed with the legacy secret
+    public JWTVerifier verifierFor(String keyId) {
+        return verifiers.get(keyId != null ? keyId : DEFAULT_KEY_ID);
+    }
+
+    public boolean sameKeysAs(Map<String, String> otherSecrets, String otherActiveKeyId) {
+        return activeKeyId.equals(otherActiveKeyId) && secrets.equals(otherSecrets);
+    }
+}
@@ -0,0 +1,8 @@
+package org.cauecalil.coursemanagement.providers;
+
+import java.util.Set;
+
+public record JWTKeysRotatedEvent(
+        String activeKeyId,
+        Set<String> keyIds
+) {}
@@ -0,0 +1,30 @@
+package org.cauecalil.coursemanagement.providers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties("security.token")
+public record JWTProperties(
+        String secret,
+        long expirationMinutes,
+        @DefaultValue(JWTKeyRing.DEFAULT_KEY_ID) String activeKeyId,
+        @DefaultValue Map<String, String> keys,
+        Path keysDirectory,
+        @DefaultValue("1m") Duration keysRefreshInterval
+) {
+    // the legacy single secret keeps working as the key with the default id
+    public Map<String, String> secrets() {
+        Map<String, String> secrets = new HashMap<>(keys);
+
+        if (secret != null) {
+            secrets.putIfAbsent(JWTKeyRing.DEFAULT_KEY_ID, secret);
+        }
+
+        return secrets;
+    }
+}
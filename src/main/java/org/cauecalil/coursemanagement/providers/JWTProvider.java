@@ -1,32 +1,41 @@
 package org.cauecalil.coursemanagement.providers;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class JWTProvider {
-    @Value("${security.token.secret}")
-    private String secretKey;
+    private static final String BEARER_PREFIX = "Bearer ";
 
-    @Value("${security.token.expiration-minutes}")
-    private long expirationMinutes;
+    private final Duration expiration;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<JWTKeyRing> keyRing;
+
+    public JWTProvider(JWTProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.expiration = Duration.ofMinutes(properties.expirationMinutes());
+        this.eventPublisher = eventPublisher;
+        this.keyRing = new AtomicReference<>(JWTKeyRing.of(properties.secrets(), properties.activeKeyId()));
+    }
 
     public TokenResultDTO generateToken(String subject, List<String> roles) {
-        var expiresAt = Instant.now().plus(Duration.ofMinutes(expirationMinutes));
+        var ring = keyRing.get();
+        var expiresAt = Instant.now().plus(expiration);
 
         var token = JWT.create()
+                .withKeyId(ring.activeKeyId())
                 .withSubject(subject)
                 .withClaim("roles", roles)
                 .withExpiresAt(expiresAt)
-                .sign(Algorithm.HMAC256(secretKey));
+                .sign(ring.signer());
 
         return TokenResultDTO.builder()
                 .accessToken(token)
@@ -35,14 +44,35 @@ public class JWTProvider {
     }
 
     public DecodedJWT validateToken(String token) {
-        token = token.replace("Bearer ", "");
+        if (token.startsWith(BEARER_PREFIX)) {
+            token = token.substring(BEARER_PREFIX.length());
+        }
 
         try {
-            return JWT.require(Algorithm.HMAC256(secretKey))
-                    .build()
-                    .verify(token);
+            // decode once to read the kid, then verify the same decoded token with that key
+            var decoded = JWT.decode(token);
+            var verifier = keyRing.get().verifierFor(decoded.getKeyId());
+
+            if (verifier == null) {
+                return null;
+            }
+
+            return verifier.verify(decoded);
         } catch (JWTVerificationException ex) {
             return null;
         }
     }
+
+    public void rotateKeys(Map<String, String> secrets, String activeKeyId) {
+        var rotated = JWTKeyRing.of(secrets, activeKeyId);
+        var previous = keyRing.getAndSet(rotated);
+
+        if (!previous.sameKeysAs(secrets, activeKeyId)) {
+            eventPublisher.publishEvent(new JWTKeysRotatedEvent(activeKeyId, secrets.keySet()));
+        }
+    }
+
+    public boolean hasKeys(Map<String, String> secrets, String activeKeyId) {
+        return keyRing.get().sameKeysAs(secrets, activeKeyId);
+    }
 }
@@ -0,0 +1,14 @@
+package org.cauecalil.coursemanagement.security;
+
+import lombok.Builder;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+@Builder
+public record AuthenticatedTokenDTO(
+        String subject,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt
+) {}
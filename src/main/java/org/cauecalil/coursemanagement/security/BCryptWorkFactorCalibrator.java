@@ -0,0 +1,49 @@
+package org.cauecalil.coursemanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+// picks the strongest BCrypt cost whose hash still fits the latency budget on this node
+@Slf4j
+final class BCryptWorkFactorCalibrator {
+    private static final int SAMPLE_STRENGTH = 8;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptWorkFactorCalibrator() {
+    }
+
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        var encoder = new BCryptPasswordEncoder(SAMPLE_STRENGTH);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        // fastest of a few runs filters out scheduling noise during startup
+        var sampleCost = Duration.ofDays(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            var start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            if (elapsed.compareTo(sampleCost) < 0) {
+                sampleCost = elapsed;
+            }
+        }
+
+        var strength = strengthFor(targetLatency, sampleCost, minStrength, maxStrength);
+
+        log.info("Calibrated BCrypt strength {} for a {}ms target (strength {} took {}ms)",
+                strength, targetLatency.toMillis(), SAMPLE_STRENGTH, sampleCost.toMillis());
+
+        return strength;
+    }
+
+    // every extra point of BCrypt strength doubles the work
+    static int strengthFor(Duration targetLatency, Duration sampleCost, int minStrength, int maxStrength) {
+        var ratio = (double) targetLatency.toNanos() / Math.max(sampleCost.toNanos(), 1);
+        var strength = SAMPLE_STRENGTH + (int) Math.floor(Math.log(ratio) / Math.log(2));
+
+        return Math.clamp(strength, minStrength, maxStrength);
+    }
+}
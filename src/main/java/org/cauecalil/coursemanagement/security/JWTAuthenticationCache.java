@@ -0,0 +1,73 @@
+package org.cauecalil.coursemanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.cauecalil.coursemanagement.providers.JWTKeysRotatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+@Component
+public class JWTAuthenticationCache {
+    private final Cache<String, AuthenticatedTokenDTO> cache;
+
+    @Autowired
+    public JWTAuthenticationCache(
+            @Value("${security.token.cache.max-size}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    JWTAuthenticationCache(long maxSize, MeterRegistry meterRegistry, Clock clock) {
+        // entries live exactly until the token's own exp, never longer
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, AuthenticatedTokenDTO value) ->
+                        value.expiresAt() == null
+                                ? Duration.ZERO
+                                : Duration.between(clock.instant(), value.expiresAt())
+                ))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");
+    }
+
+    public AuthenticatedTokenDTO get(String token, Function<String, AuthenticatedTokenDTO> authenticator) {
+        // tokens that fail verification come back as null and are never cached
+        return cache.get(hash(token), key -> authenticator.apply(token));
+    }
+
+    // authentications verified with a key that was just retired must not outlive the rotation
+    @EventListener
+    public void onKeysRotated(JWTKeysRotatedEvent event) {
+        cache.invalidateAll();
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package org.cauecalil.coursemanagement.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String BCRYPT_ENCODER_ID = "bcrypt";
+
     private final SecurityFilter securityFilter;
 
     private static final String[] AUTH_WHITELIST = {
@@ -25,14 +37,33 @@ public class SecurityConfig {
             "/swagger-resource/**",
     };
 
+    // actuator lives on management.server.port, which is never published; with a separate port
+    // EndpointRequest only matches there, so /actuator/** on the API port still hits the chain below
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+        ;
+
+        return http.build();
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // the request was authorized before it went async, and SecurityFilter skips the re-dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(AUTH_WHITELIST).permitAll()
                         .requestMatchers(HttpMethod.POST, "/professors/**").permitAll()
+                        // a full export holds a connection for minutes, it is not for anonymous callers
+                        .requestMatchers(HttpMethod.GET, "/courses/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/courses/**").permitAll()
                         .requestMatchers("/courses/**").authenticated()
                         .anyRequest().authenticated()
@@ -44,7 +75,37 @@ public class SecurityConfig {
     }
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity}") int queueCapacity,
+            @Value("${security.password-hashing.timeout}") Duration timeout,
+            @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+            @Value("${security.password-hashing.bcrypt.target-latency}") Duration targetLatency,
+            @Value("${security.password-hashing.bcrypt.min-strength}") int minStrength,
+            @Value("${security.password-hashing.bcrypt.max-strength}") int maxStrength,
+            MeterRegistry meterRegistry
+    ) {
+        // hashing is pure CPU work, more threads than cores only adds contention
+        var poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        var bcryptStrength = strength > 0
+                ? strength
+                : BCryptWorkFactorCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+
+        // new hashes are stored as {bcrypt}...; unprefixed hashes from before the prefix still match
+        // and report upgradeEncoding() so they get rewritten on the next successful login
+        var delegatingEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ENCODER_ID,
+                Map.of(BCRYPT_ENCODER_ID, new BCryptPasswordEncoder(bcryptStrength))
+        );
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return new BoundedPasswordEncoder(
+                delegatingEncoder,
+                poolSize,
+                queueCapacity,
+                timeout,
+                meterRegistry
+        );
     }
 }
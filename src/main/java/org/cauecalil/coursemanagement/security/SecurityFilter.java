@@ -1,13 +1,17 @@
 package org.cauecalil.coursemanagement.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.cauecalil.coursemanagement.providers.JWTProvider;
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -15,35 +19,85 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JWTProvider jwtProvider;
+    private final JWTAuthenticationCache jwtAuthenticationCache;
+    private final Timer validVerifications;
+    private final Timer invalidVerifications;
+    private final ObservationRegistry observationRegistry;
+
+    public SecurityFilter(
+            JWTProvider jwtProvider,
+            JWTAuthenticationCache jwtAuthenticationCache,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.observationRegistry = observationRegistry;
+        this.validVerifications = verificationTimer(meterRegistry, "valid");
+        this.invalidVerifications = verificationTimer(meterRegistry, "invalid");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         String header = request.getHeader("Authorization");
 
-        if (header != null && header.startsWith("Bearer ")) {
-            var token = jwtProvider.validateToken(header);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            var token = header.substring(BEARER_PREFIX.length());
+            // its own span, so JWT parsing and verification can be told apart from the rest of the chain
+            var authenticatedToken = Observation.createNotStarted("security.authentication", observationRegistry)
+                    .contextualName("jwt-authentication")
+                    .observe(() -> jwtAuthenticationCache.get(token, this::authenticate));
 
-            if (token == null) {
+            if (authenticatedToken == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            request.setAttribute("user_id", token.getSubject());
-
-            var roles = token.getClaim("roles").asList(String.class);
-            var grants = roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .toList();
+            request.setAttribute("user_id", authenticatedToken.subject());
 
-            var auth = new UsernamePasswordAuthenticationToken(token.getSubject(), null, grants);
+            var auth = new UsernamePasswordAuthenticationToken(authenticatedToken.subject(), null, authenticatedToken.authorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    // only reached on a cache miss, so the timer counts actual signature checks
+    private AuthenticatedTokenDTO authenticate(String token) {
+        var start = System.nanoTime();
+        var decoded = jwtProvider.validateToken(token);
+
+        if (decoded == null) {
+            invalidVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+
+        validVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        var roles = decoded.getClaim("roles").asList(String.class);
+        List<GrantedAuthority> grants = roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+
+        return AuthenticatedTokenDTO.builder()
+                .subject(decoded.getSubject())
+                .authorities(grants)
+                .expiresAt(decoded.getExpiresAtAsInstant())
+                .build();
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verification")
+                .description("Time spent verifying a JWT that was not in the authentication cache")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,23 @@
+CREATE TABLE professors (
+    id         UUID         NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT professors_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE courses (
+    id           UUID         NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    category     VARCHAR(100) NOT NULL,
+    active       BOOLEAN      NOT NULL,
+    professor_id UUID         NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT courses_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_courses_professor FOREIGN KEY (professor_id) REFERENCES professors (id)
+);
+
+CREATE INDEX idx_courses_created_at_id ON courses (created_at, id);
@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_courses_name_trgm ON courses USING gin (name gin_trgm_ops);
+CREATE INDEX idx_courses_category_trgm ON courses USING gin (category gin_trgm_ops);
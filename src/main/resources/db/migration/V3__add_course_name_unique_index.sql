@@ -0,0 +1 @@
+CREATE UNIQUE INDEX uq_courses_name_lower ON courses (lower(name));
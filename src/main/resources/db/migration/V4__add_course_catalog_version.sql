@@ -0,0 +1,23 @@
+CREATE INDEX idx_courses_updated_at ON courses (updated_at);
+
+-- inserts and updates move max(updated_at); deletions are counted here so the
+-- catalog version can be read without counting every row
+CREATE TABLE course_catalog_stats (
+    id            SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    deleted_count BIGINT   NOT NULL DEFAULT 0
+);
+
+INSERT INTO course_catalog_stats (id, deleted_count) VALUES (1, 0);
+
+CREATE FUNCTION count_deleted_courses() RETURNS trigger AS $$
+BEGIN
+    UPDATE course_catalog_stats SET deleted_count = deleted_count + (SELECT count(*) FROM deleted_courses);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_courses_count_deleted
+    AFTER DELETE ON courses
+    REFERENCING OLD TABLE AS deleted_courses
+    FOR EACH STATEMENT
+EXECUTE FUNCTION count_deleted_courses();
@@ -0,0 +1,2 @@
+-- optimistic locking: every write bumps the version, conditional writes compare it
+ALTER TABLE courses ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
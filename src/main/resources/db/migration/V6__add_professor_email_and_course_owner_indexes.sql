@@ -0,0 +1,6 @@
+-- login and sign-up look professors up by email; the constraint also closes the
+-- race between existsByEmail and the insert
+ALTER TABLE professors ADD CONSTRAINT uq_professors_email UNIQUE (email);
+
+-- ownership checks, batch operations and the foreign key from professors all filter on it
+CREATE INDEX idx_courses_professor_id ON courses (professor_id);
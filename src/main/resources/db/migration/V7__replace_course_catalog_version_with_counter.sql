@@ -0,0 +1,46 @@
+-- max(updated_at) missed rows edited out of a filter and commits that landed out of
+-- timestamp order, and every delete queued on the single stats row. The catalog
+-- version is now a counter bumped by every statement that changes courses, so it
+-- moves in commit order: a reader either sees a committed bump or the old value.
+DROP TRIGGER trg_courses_count_deleted ON courses;
+DROP FUNCTION count_deleted_courses();
+DROP TABLE course_catalog_stats;
+DROP INDEX idx_courses_updated_at;
+
+-- striped over 16 rows so concurrent writers rarely wait on the same row lock;
+-- the version is the sum of all slots
+CREATE TABLE course_catalog_versions (
+    slot    SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL DEFAULT 0
+);
+
+INSERT INTO course_catalog_versions (slot) SELECT generate_series(0, 15);
+
+-- statements that touched no rows leave the version and the locks alone; a
+-- transaction always bumps the same slot, so two writers never deadlock on them
+CREATE FUNCTION bump_course_catalog_version() RETURNS trigger AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM changed_courses) THEN
+        UPDATE course_catalog_versions SET version = version + 1 WHERE slot = txid_current() % 16;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_courses_version_insert
+    AFTER INSERT ON courses
+    REFERENCING NEW TABLE AS changed_courses
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_course_catalog_version();
+
+CREATE TRIGGER trg_courses_version_update
+    AFTER UPDATE ON courses
+    REFERENCING NEW TABLE AS changed_courses
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_course_catalog_version();
+
+CREATE TRIGGER trg_courses_version_delete
+    AFTER DELETE ON courses
+    REFERENCING OLD TABLE AS changed_courses
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_course_catalog_version();
@@ -0,0 +1,3 @@
+-- databases that predate Flyway are baselined at V1, so V1's keyset index never ran on them;
+-- ddl-auto=update used to create it from the entity, validate doesn't check indexes
+CREATE INDEX IF NOT EXISTS idx_courses_created_at_id ON courses (created_at, id);
@@ -0,0 +1,53 @@
+package org.cauecalil.coursemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataSourcePoolMonitorTest {
+    @Test
+    @DisplayName("Should refuse to start with a pool the CPUs cannot drive")
+    void shouldRefuseToStartWithAPoolTheCpusCannotDrive() {
+        var monitor = new DataSourcePoolMonitor(List.of(pool(20)), DataSourcePoolMonitor.SizeCheck.FAIL, 4, 4);
+
+        assertThatThrownBy(monitor::afterPropertiesSet)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("20 connections but 4 CPUs can drive at most 16");
+    }
+
+    @Test
+    @DisplayName("Should only warn about an oversized pool unless told to fail")
+    void shouldOnlyWarnAboutAnOversizedPoolUnlessToldToFail() {
+        var warn = new DataSourcePoolMonitor(List.of(pool(20)), DataSourcePoolMonitor.SizeCheck.WARN, 4, 4);
+        var fitting = new DataSourcePoolMonitor(List.of(pool(16)), DataSourcePoolMonitor.SizeCheck.FAIL, 4, 4);
+
+        assertThatCode(warn::afterPropertiesSet).doesNotThrowAnyException();
+        assertThatCode(fitting::afterPropertiesSet).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should publish pool saturation per pool")
+    void shouldPublishPoolSaturationPerPool() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var monitor = new DataSourcePoolMonitor(List.of(pool(10)), DataSourcePoolMonitor.SizeCheck.OFF, 4, 4);
+
+        monitor.bindTo(meterRegistry);
+
+        // the pool has not been started, so nothing is in use yet
+        assertThat(meterRegistry.get("hikaricp.connections.saturation").tag("pool", "test-pool").gauge().value()).isZero();
+    }
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        var dataSource = new HikariDataSource();
+        dataSource.setPoolName("test-pool");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,49 @@
+package org.cauecalil.coursemanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadPinningMonitorTest {
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        virtualThreadPinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualThreadPinningMonitor.close();
+    }
+
+    @Test
+    @DisplayName("Should time virtual threads that block while holding a monitor")
+    void shouldTimeVirtualThreadsThatBlockWhileHoldingAMonitor() {
+        // the stream may still be starting, so keep pinning until an event arrives
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            Thread.ofVirtual().start(this::sleepWhilePinned).join();
+            return meterRegistry.get("jvm.threads.virtual.pinned").timer().count() > 0;
+        });
+    }
+
+    private void sleepWhilePinned() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
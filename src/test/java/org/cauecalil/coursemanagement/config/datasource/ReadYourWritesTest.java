@@ -0,0 +1,89 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadYourWritesTest {
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should send a professor's reads to the primary after they commit a write")
+    void shouldSendAProfessorsReadsToThePrimaryAfterTheyCommitAWrite() {
+        var readYourWrites = new ReadYourWrites(properties(List.of("jdbc:postgresql://replica/db")));
+
+        authenticate("professor-1");
+        assertThat(readYourWrites.mustReadPrimary()).isFalse();
+
+        readYourWrites.afterCommit(transaction(false, true), null);
+        assertThat(readYourWrites.mustReadPrimary()).isTrue();
+
+        authenticate("professor-2");
+        assertThat(readYourWrites.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore read-only, nested and failed commits")
+    void shouldIgnoreReadOnlyNestedAndFailedCommits() {
+        var readYourWrites = new ReadYourWrites(properties(List.of("jdbc:postgresql://replica/db")));
+        authenticate("professor-1");
+
+        readYourWrites.afterCommit(transaction(true, true), null);
+        readYourWrites.afterCommit(transaction(false, false), null);
+        readYourWrites.afterCommit(transaction(false, true), new IllegalStateException("commit failed"));
+
+        assertThat(readYourWrites.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should force the primary only for the retried lookup")
+    void shouldForceThePrimaryOnlyForTheRetriedLookup() {
+        var readYourWrites = new ReadYourWrites(properties(List.of("jdbc:postgresql://replica/db")));
+
+        var result = readYourWrites.retryOnPrimary(() -> Optional.of(readYourWrites.mustReadPrimary()));
+
+        assertThat(result).contains(true);
+        assertThat(readYourWrites.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should do nothing without replicas")
+    void shouldDoNothingWithoutReplicas() {
+        var readYourWrites = new ReadYourWrites(properties(List.of()));
+
+        assertThat(readYourWrites.retryOnPrimary(() -> Optional.of("found"))).isEmpty();
+        assertThat(readYourWrites.staleReadWindow()).isZero();
+    }
+
+    private static ReadReplicaProperties properties(List<String> urls) {
+        return new ReadReplicaProperties(urls, null, null, 10, Duration.ofSeconds(1), Duration.ofMinutes(1),
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    private static TransactionExecution transaction(boolean readOnly, boolean newTransaction) {
+        var transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        when(transaction.isNewTransaction()).thenReturn(newTransaction);
+        return transaction;
+    }
+
+    private static void authenticate(String professorId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(professorId, null, List.of())
+        );
+    }
+}
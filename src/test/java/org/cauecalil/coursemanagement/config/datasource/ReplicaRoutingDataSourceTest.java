@@ -0,0 +1,269 @@
+package org.cauecalil.coursemanagement.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+    @Mock
+    private HikariDataSource primary;
+
+    @Mock
+    private HikariDataSource firstReplica;
+
+    @Mock
+    private HikariDataSource secondReplica;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, List.of(firstReplica, secondReplica), readYourWrites, Duration.ofSeconds(5), meterRegistry
+        );
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should send read-write work to the primary")
+    void shouldSendReadWriteWorkToThePrimary() throws SQLException {
+        var connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+        verifyNoInteractions(firstReplica, secondReplica, readYourWrites);
+    }
+
+    @Test
+    @DisplayName("Should spread reads over the replicas")
+    void shouldSpreadReadsOverTheReplicas() throws SQLException {
+        var first = mock(Connection.class);
+        var second = mock(Connection.class);
+        when(firstReplica.getConnection()).thenReturn(first);
+        when(secondReplica.getConnection()).thenReturn(second);
+
+        assertThat(List.of(routingDataSource.getConnection(), routingDataSource.getConnection(), routingDataSource.getConnection()))
+                .containsExactly(first, second, first);
+        assertThat(reads("replica")).isEqualTo(3);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after the caller's own write")
+    void shouldReadFromThePrimaryRightAfterTheCallersOwnWrite() throws SQLException {
+        var connection = mock(Connection.class);
+        when(readYourWrites.mustReadPrimary()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+        assertThat(reads("primary")).isEqualTo(1);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    @DisplayName("Should skip a replica that fails and fall back to the primary when none is left")
+    void shouldSkipAReplicaThatFailsAndFallBackToThePrimaryWhenNoneIsLeft() throws SQLException {
+        var replicaConnection = mock(Connection.class);
+        var primaryConnection = mock(Connection.class);
+        when(firstReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(secondReplica.getConnection()).thenReturn(replicaConnection).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        // both are out of rotation until the health check sees them again
+        verify(firstReplica, times(1)).getConnection();
+        verify(secondReplica, times(2)).getConnection();
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep every read of a request on the replica the first one used")
+    void shouldKeepEveryReadOfARequestOnTheReplicaTheFirstOneUsed() throws SQLException {
+        var first = mock(Connection.class);
+        var second = mock(Connection.class);
+        when(firstReplica.getConnection()).thenReturn(first);
+        when(secondReplica.getConnection()).thenReturn(second);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(List.of(routingDataSource.getConnection(), routingDataSource.getConnection())).containsExactly(first, first);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(routingDataSource.getConnection()).isSameAs(second);
+
+        // a lookup retried on the primary still gets it
+        when(readYourWrites.mustReadPrimary()).thenReturn(true);
+        var primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should keep a request on the primary once a read fell back to it")
+    void shouldKeepARequestOnThePrimaryOnceAReadFellBackToIt() throws SQLException {
+        var connection = mock(Connection.class);
+        when(readYourWrites.mustReadPrimary()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(connection);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        routingDataSource.getConnection();
+
+        // the read-your-writes window closing mid-request must not send the next read to a replica
+        reset(readYourWrites);
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+        assertThat(reads("primary")).isEqualTo(2);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    @DisplayName("Should route connections with explicit credentials like any other")
+    void shouldRouteConnectionsWithExplicitCredentialsLikeAnyOther() throws SQLException {
+        var replicaConnection = mock(Connection.class);
+        var primaryConnection = mock(Connection.class);
+        when(firstReplica.getConnection("reader", "secret")).thenReturn(replicaConnection);
+        when(primary.getConnection("writer", "secret")).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection("reader", "secret")).isSameAs(replicaConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routingDataSource.getConnection("writer", "secret")).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should measure every replica against the primary's current WAL position")
+    void shouldMeasureEveryReplicaAgainstThePrimarysCurrentWalPosition() throws SQLException {
+        var primaryConnection = primaryAt("0/3000148");
+        var firstProbe = probe(0.0);
+        var secondProbe = probe(0.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstProbe);
+        when(secondReplica.getConnection()).thenReturn(secondProbe);
+
+        routingDataSource.checkHealth();
+
+        verify(firstProbe.prepareStatement(anyString())).setString(1, "0/3000148");
+        verify(secondProbe.prepareStatement(anyString())).setString(1, "0/3000148");
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should take a replica behind the primary out of rotation when its lag is unknown")
+    void shouldTakeAReplicaBehindThePrimaryOutOfRotationWhenItsLagIsUnknown() throws SQLException {
+        var primaryConnection = primaryAt("0/3000148");
+        var behind = probe(0.0);
+        var current = probe(0.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(behind);
+        when(secondReplica.getConnection()).thenReturn(current);
+        // no transaction replayed since it started, so pg_last_xact_replay_timestamp() is NULL
+        when(behind.prepareStatement(anyString()).executeQuery().wasNull()).thenReturn(true);
+
+        routingDataSource.checkHealth();
+
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(1);
+        assertThat(routingDataSource.getConnection()).isSameAs(current);
+    }
+
+    @Test
+    @DisplayName("Should leave replicas as they are when the primary's position can't be read")
+    void shouldLeaveReplicasAsTheyAreWhenThePrimarysPositionCantBeRead() throws SQLException {
+        when(primary.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        routingDataSource.checkHealth();
+
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(2);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    @DisplayName("Should take lagging replicas out of rotation and bring them back once caught up")
+    void shouldTakeLaggingReplicasOutOfRotationAndBringThemBackOnceCaughtUp() throws SQLException {
+        var primaryConnection = primaryAt("0/3000148");
+        var firstProbe = probe(30.0, 0.0);
+        var secondProbe = probe(0.0, 0.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstProbe);
+        when(secondReplica.getConnection()).thenReturn(secondProbe);
+
+        routingDataSource.checkHealth();
+
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(1);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondProbe);
+        assertThat(routingDataSource.getConnection()).isSameAs(secondProbe);
+
+        routingDataSource.checkHealth();
+
+        assertThat(meterRegistry.get("datasource.replicas.healthy").gauge().value()).isEqualTo(2);
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.reads").tag("target", target).counter().count();
+    }
+
+    private static Connection primaryAt(String position) throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(position);
+
+        return connection;
+    }
+
+    private static Connection probe(double lagSeconds, double... laterLagSeconds) throws SQLException {
+        var connection = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        var resultSet = mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+
+        var stub = when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        for (var lag : laterLagSeconds) {
+            stub = stub.thenReturn(lag);
+        }
+
+        return connection;
+    }
+}
@@ -0,0 +1,69 @@
+package org.cauecalil.coursemanagement.exceptions.handlers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.exceptions.api.ApiErrorCode;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(new StaticMessageSource(), meterRegistry);
+
+    @Test
+    @DisplayName("Should translate the course name unique index violation into COURSE_ALREADY_EXISTS")
+    void shouldTranslateTheCourseNameUniqueIndexViolationIntoCourseAlreadyExists() {
+        var response = globalExceptionHandler.handleDataIntegrityViolation(violationOf("uq_courses_name_lower"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().error()).isEqualTo(ApiErrorCode.COURSE_ALREADY_EXISTS.name());
+    }
+
+    @Test
+    @DisplayName("Should translate the professor email unique constraint violation into PROFESSOR_ALREADY_EXISTS")
+    void shouldTranslateTheProfessorEmailUniqueConstraintViolationIntoProfessorAlreadyExists() {
+        var response = globalExceptionHandler.handleDataIntegrityViolation(violationOf("uq_professors_email"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().error()).isEqualTo(ApiErrorCode.PROFESSOR_ALREADY_EXISTS.name());
+    }
+
+    @Test
+    @DisplayName("Should answer unmapped constraint violations with a generic conflict")
+    void shouldAnswerUnmappedConstraintViolationsWithAGenericConflict() {
+        var response = globalExceptionHandler.handleDataIntegrityViolation(violationOf("some_other_constraint"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().error()).isEqualTo(ApiErrorCode.CONFLICT.name());
+    }
+
+    @Test
+    @DisplayName("Should count error responses by API error code")
+    void shouldCountErrorResponsesByApiErrorCode() {
+        globalExceptionHandler.handleApiException(new CourseNotFoundException());
+        globalExceptionHandler.handleDataIntegrityViolation(violationOf("uq_courses_name_lower"));
+        globalExceptionHandler.handleDataIntegrityViolation(violationOf("some_other_constraint"));
+
+        assertThat(errorCount(ApiErrorCode.COURSE_NOT_FOUND)).isEqualTo(1);
+        assertThat(errorCount(ApiErrorCode.COURSE_ALREADY_EXISTS)).isEqualTo(1);
+        assertThat(errorCount(ApiErrorCode.CONFLICT)).isEqualTo(1);
+        assertThat(errorCount(ApiErrorCode.INVALID_CREDENTIALS)).isZero();
+    }
+
+    private double errorCount(ApiErrorCode code) {
+        return meterRegistry.get("api.errors").tag("code", code.name()).counter().count();
+    }
+
+    private DataIntegrityViolationException violationOf(String constraintName) {
+        var cause = new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+}
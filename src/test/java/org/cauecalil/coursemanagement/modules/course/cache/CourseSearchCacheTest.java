@@ -0,0 +1,165 @@
+package org.cauecalil.coursemanagement.modules.course.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesPageResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesQueryDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseSearchCacheTest {
+    private static final long CATALOG_VERSION = 7L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseSearchCache courseSearchCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        courseSearchCache = new CourseSearchCache(true, 100, Duration.ofMinutes(1), 2, meterRegistry, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated searches from the cache regardless of case")
+    void shouldServeRepeatedSearchesFromTheCacheRegardlessOfCase() {
+        var page = page(UUID.randomUUID());
+
+        courseSearchCache.get(query("Java", null), CATALOG_VERSION, () -> load(page));
+        var cached = courseSearchCache.get(query("JAVA", null), CATALOG_VERSION, () -> load(page(UUID.randomUUID())));
+
+        assertThat(cached).isSameAs(page);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "course.search").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a page cached under another catalog version")
+    void shouldNotServeAPageCachedUnderAnotherCatalogVersion() {
+        var stale = page(UUID.randomUUID());
+        var fresh = page(UUID.randomUUID());
+
+        courseSearchCache.get(query("java", null), CATALOG_VERSION, () -> load(stale));
+        var result = courseSearchCache.get(query("java", null), CATALOG_VERSION + 1, () -> load(fresh));
+
+        assertThat(result).isSameAs(fresh);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache pages above the item limit")
+    void shouldNotCachePagesAboveTheItemLimit() {
+        var page = page(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        courseSearchCache.get(query(null, null), CATALOG_VERSION, () -> load(page));
+        courseSearchCache.get(query(null, null), CATALOG_VERSION, () -> load(page));
+
+        assertThat(loads).hasValue(2);
+        assertThat(courseSearchCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict only pages listing a changed course")
+    void shouldEvictOnlyPagesListingAChangedCourse() {
+        var changed = UUID.randomUUID();
+
+        courseSearchCache.get(query("java", null), CATALOG_VERSION, () -> load(page(changed)));
+        courseSearchCache.get(query("python", null), CATALOG_VERSION, () -> load(page(UUID.randomUUID())));
+
+        courseSearchCache.onCoursesChanged(CoursesChangedEvent.updated(changed));
+
+        assertThat(courseSearchCache.size()).isEqualTo(1);
+        courseSearchCache.get(query("python", null), CATALOG_VERSION, () -> load(page()));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should evict pages whose filters match a new course")
+    void shouldEvictPagesWhoseFiltersMatchANewCourse() {
+        courseSearchCache.get(query("java", "backend"), CATALOG_VERSION, () -> load(page()));
+        courseSearchCache.get(query("java", "frontend"), CATALOG_VERSION, () -> load(page()));
+        courseSearchCache.get(query(null, null), CATALOG_VERSION, () -> load(page()));
+        courseSearchCache.get(query("j_va", null), CATALOG_VERSION, () -> load(page()));
+        courseSearchCache.get(query("python", null), CATALOG_VERSION, () -> load(page()));
+
+        courseSearchCache.onCoursesChanged(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match("Advanced Java", "Backend")
+        )));
+
+        // java+frontend and python can't list the new course, the wildcard filter might
+        assertThat(courseSearchCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep a page loaded while a write was committing")
+    void shouldNotKeepAPageLoadedWhileAWriteWasCommitting() {
+        courseSearchCache.get(query("java", null), CATALOG_VERSION, () -> {
+            courseSearchCache.onCoursesChanged(CoursesChangedEvent.updated(UUID.randomUUID()));
+            return load(page());
+        });
+
+        assertThat(courseSearchCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache pages a lagging replica may have served stale")
+    void shouldNotCachePagesALaggingReplicaMayHaveServedStale() {
+        var replicated = new CourseSearchCache(true, 100, Duration.ofMinutes(1), 2, new SimpleMeterRegistry(), Duration.ofMinutes(1));
+
+        replicated.onCoursesChanged(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match("Advanced Java", "Backend")
+        )));
+
+        replicated.get(query("java", null), CATALOG_VERSION, () -> load(page()));
+        replicated.get(query("python", null), CATALOG_VERSION, () -> load(page()));
+
+        assertThat(replicated.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should always load when disabled")
+    void shouldAlwaysLoadWhenDisabled() {
+        var disabled = new CourseSearchCache(false, 100, Duration.ofMinutes(1), 2, new SimpleMeterRegistry(), Duration.ZERO);
+
+        disabled.get(query("java", null), CATALOG_VERSION, () -> load(page()));
+        disabled.get(query("java", null), CATALOG_VERSION, () -> load(page()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private FindCoursesPageResponseDTO load(FindCoursesPageResponseDTO page) {
+        loads.incrementAndGet();
+        return page;
+    }
+
+    private static FindCoursesQueryDTO query(String name, String category) {
+        return FindCoursesQueryDTO.builder()
+                .name(name)
+                .category(category)
+                .limit(20)
+                .sort(CourseSortDTO.CREATED_AT)
+                .build();
+    }
+
+    private static FindCoursesPageResponseDTO page(UUID... ids) {
+        var items = Arrays.stream(ids)
+                .map(id -> FindCoursesResponseDTO.builder().id(id).build())
+                .toList();
+
+        return FindCoursesPageResponseDTO.builder()
+                .items(items)
+                .build();
+    }
+}
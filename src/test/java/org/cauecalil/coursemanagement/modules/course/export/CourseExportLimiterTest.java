@@ -0,0 +1,64 @@
+package org.cauecalil.coursemanagement.modules.course.export;
+
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseExportUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CourseExportLimiterTest {
+    private final CourseExportLimiter courseExportLimiter = new CourseExportLimiter(1, Duration.ofMinutes(30));
+
+    @Test
+    @DisplayName("Should give exports their own async timeout")
+    void shouldGiveExportsTheirOwnAsyncTimeout() {
+        var task = courseExportLimiter.submit(() -> null);
+
+        assertThat(task.getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("Should turn exports away while the limit is reached")
+    void shouldTurnExportsAwayWhileTheLimitIsReached() throws Exception {
+        var started = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+
+        var running = CompletableFuture.runAsync(() -> {
+            try {
+                courseExportLimiter.submit(() -> {
+                    started.countDown();
+                    finish.await();
+                    return null;
+                }).getCallable().call();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> courseExportLimiter.submit(() -> "second").getCallable().call())
+                .isInstanceOf(CourseExportUnavailableException.class);
+
+        finish.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        assertThat(courseExportLimiter.submit(() -> "third").getCallable().call()).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("Should release the permit when an export fails")
+    void shouldReleaseThePermitWhenAnExportFails() throws Exception {
+        assertThatThrownBy(() -> courseExportLimiter.submit(() -> {
+            throw new IOException("client went away");
+        }).getCallable().call()).isInstanceOf(IOException.class);
+
+        assertThat(courseExportLimiter.submit(() -> "next").getCallable().call()).isEqualTo("next");
+    }
+}
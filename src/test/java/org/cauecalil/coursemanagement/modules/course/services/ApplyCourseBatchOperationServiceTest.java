@@ -0,0 +1,125 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseBatchOperationOutcomeDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseBatchOperationRequestDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseBatchOperationTypeDTO;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplyCourseBatchOperationServiceTest {
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ApplyCourseBatchOperationService applyCourseBatchOperationService;
+
+    @Test
+    @DisplayName("Should run a single statement when every course is applied")
+    void shouldRunASingleStatementWhenEveryCourseIsApplied() {
+        var professorId = UUID.randomUUID();
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var ids = new LinkedHashSet<>(List.of(first, second));
+
+        var request = CourseBatchOperationRequestDTO.builder()
+                .ids(List.of(first, second, first))
+                .operation(CourseBatchOperationTypeDTO.DEACTIVATE)
+                .build();
+
+        when(courseRepository.setActiveByIdsAndProfessorId(ids, professorId, false)).thenReturn(List.of(first, second));
+
+        var result = applyCourseBatchOperationService.execute(request, professorId);
+
+        assertThat(result.operation()).isEqualTo(CourseBatchOperationTypeDTO.DEACTIVATE);
+        assertThat(result.applied()).isEqualTo(2);
+        assertThat(result.results()).extracting("id").containsExactly(first, second);
+        assertThat(result.results()).extracting("outcome").containsOnly(CourseBatchOperationOutcomeDTO.APPLIED);
+
+        verify(courseRepository).setActiveByIdsAndProfessorId(ids, professorId, false);
+        verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.updated(List.of(first, second)));
+    }
+
+    @Test
+    @DisplayName("Should report missing and foreign courses without touching them")
+    void shouldReportMissingAndForeignCoursesWithoutTouchingThem() {
+        var professorId = UUID.randomUUID();
+        var owned = UUID.randomUUID();
+        var foreign = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+
+        var request = CourseBatchOperationRequestDTO.builder()
+                .ids(List.of(owned, foreign, missing))
+                .operation(CourseBatchOperationTypeDTO.DELETE)
+                .build();
+
+        when(courseRepository.deleteByIdsAndProfessorId(new LinkedHashSet<>(request.ids()), professorId)).thenReturn(List.of(owned));
+        when(courseRepository.findExistingIds(List.of(foreign, missing))).thenReturn(List.of(foreign));
+
+        var result = applyCourseBatchOperationService.execute(request, professorId);
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.results()).extracting("outcome").containsExactly(
+                CourseBatchOperationOutcomeDTO.APPLIED,
+                CourseBatchOperationOutcomeDTO.NOT_OWNER,
+                CourseBatchOperationOutcomeDTO.NOT_FOUND
+        );
+    }
+
+    @Test
+    @DisplayName("Should set the category on all owned courses")
+    void shouldSetTheCategoryOnAllOwnedCourses() {
+        var professorId = UUID.randomUUID();
+        var id = UUID.randomUUID();
+
+        var request = CourseBatchOperationRequestDTO.builder()
+                .ids(List.of(id))
+                .operation(CourseBatchOperationTypeDTO.SET_CATEGORY)
+                .category("Data Science")
+                .build();
+
+        when(courseRepository.setCategoryByIdsAndProfessorId(new LinkedHashSet<>(List.of(id)), professorId, "Data Science")).thenReturn(List.of(id));
+
+        var result = applyCourseBatchOperationService.execute(request, professorId);
+
+        assertThat(result.applied()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new CoursesChangedEvent(
+                Set.of(id), List.of(new CoursesChangedEvent.Match(null, "Data Science"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should not be able to set category without providing one")
+    void shouldNotBeAbleToSetCategoryWithoutProvidingOne() {
+        var request = CourseBatchOperationRequestDTO.builder()
+                .ids(List.of(UUID.randomUUID()))
+                .operation(CourseBatchOperationTypeDTO.SET_CATEGORY)
+                .build();
+
+        assertThatThrownBy(() -> applyCourseBatchOperationService.execute(request, UUID.randomUUID()))
+                .isInstanceOf(InvalidCourseUpdateException.class);
+
+        verifyNoInteractions(courseRepository, eventPublisher);
+    }
+}
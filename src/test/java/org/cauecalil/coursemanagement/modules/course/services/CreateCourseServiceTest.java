@@ -1,9 +1,9 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseAlreadyExistsException;
 import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseRequestDTO;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
 import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
@@ -14,8 +14,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +34,9 @@ public class CreateCourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateCourseService createCourseService;
 
@@ -54,7 +60,7 @@ public class CreateCourseServiceTest {
     }
 
     @Test
-    @DisplayName("Should not be able to create course when a course with same name already exists")
+    @DisplayName("Should let the unique name index reject a course with the same name")
     public void shouldNotBeAbleToCreateCourseWhenCourseAlreadyExists() {
         var professorId = UUID.randomUUID();
 
@@ -71,13 +77,13 @@ public class CreateCourseServiceTest {
                 .build();
 
         when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.existsByNameIgnoreCase(request.name())).thenReturn(true);
+        when(courseRepository.saveAndFlush(any(CourseEntity.class))).thenThrow(new DataIntegrityViolationException("uq_courses_name_lower"));
 
         assertThatThrownBy(() -> createCourseService.execute(request, professorId))
-                .isInstanceOf(CourseAlreadyExistsException.class);
+                .isInstanceOf(DataIntegrityViolationException.class);
 
         verify(professorRepository).findById(professorId);
-        verify(courseRepository).existsByNameIgnoreCase(request.name());
+        verify(courseRepository).saveAndFlush(any(CourseEntity.class));
         verifyNoMoreInteractions(professorRepository, courseRepository);
     }
 
@@ -110,16 +116,16 @@ public class CreateCourseServiceTest {
                 .professor(professor)
                 .createdAt(createdAt)
                 .updatedAt(updatedAt)
+                .version(0L)
                 .build();
 
         when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.existsByNameIgnoreCase(request.name())).thenReturn(false);
-        when(courseRepository.save(any(CourseEntity.class))).thenReturn(savedCourse);
+        when(courseRepository.saveAndFlush(any(CourseEntity.class))).thenReturn(savedCourse);
 
         var response = createCourseService.execute(request, professorId);
 
         ArgumentCaptor<CourseEntity> courseCaptor = ArgumentCaptor.forClass(CourseEntity.class);
-        verify(courseRepository).save(courseCaptor.capture());
+        verify(courseRepository).saveAndFlush(courseCaptor.capture());
 
         var entityToSave = courseCaptor.getValue();
         assertThat(entityToSave.getId()).isNull();
@@ -134,9 +140,12 @@ public class CreateCourseServiceTest {
         assertThat(response.active()).isTrue();
         assertThat(response.createdAt()).isEqualTo(createdAt);
         assertThat(response.updatedAt()).isEqualTo(updatedAt);
+        assertThat(response.version()).isZero();
 
         verify(professorRepository).findById(professorId);
-        verify(courseRepository).existsByNameIgnoreCase(request.name());
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match("Course Name", "Course Category")
+        )));
         verifyNoMoreInteractions(professorRepository, courseRepository);
     }
 }
\ No newline at end of file
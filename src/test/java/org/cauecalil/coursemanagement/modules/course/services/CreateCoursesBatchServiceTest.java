@@ -0,0 +1,153 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseBatchStatusDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCourseRequestDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CreateCoursesBatchRequestDTO;
+import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateCoursesBatchServiceTest {
+    @Mock
+    private ProfessorRepository professorRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CreateCoursesBatchService createCoursesBatchService;
+
+    @Test
+    @DisplayName("Should not be able to create courses in bulk without professor")
+    void shouldNotBeAbleToCreateCoursesInBulkWithoutProfessor() {
+        var professorId = UUID.randomUUID();
+        var request = buildRequest("Java for Beginners");
+
+        when(professorRepository.existsById(professorId)).thenReturn(false);
+
+        assertThatThrownBy(() -> createCoursesBatchService.execute(request, professorId))
+                .isInstanceOf(ProfessorNotFoundException.class);
+
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should check all names in one query and report a result per item")
+    void shouldCheckAllNamesInOneQueryAndReportAResultPerItem() {
+        var professorId = UUID.randomUUID();
+        var request = buildRequest("Java for Beginners", "Spring in Depth", "JAVA FOR BEGINNERS", "Existing Course");
+
+        when(professorRepository.existsById(professorId)).thenReturn(true);
+        when(courseRepository.findExistingLowerCaseNames(any())).thenReturn(Set.of("existing course"));
+        when(courseRepository.insertSkippingConflicts(eq(professorId), any(), any(), any())).thenAnswer(invocation -> inserted(invocation.getArgument(1), invocation.getArgument(2)));
+
+        var result = createCoursesBatchService.execute(request, professorId);
+
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.results()).extracting("status").containsExactly(
+                CreateCourseBatchStatusDTO.CREATED,
+                CreateCourseBatchStatusDTO.CREATED,
+                CreateCourseBatchStatusDTO.DUPLICATE_IN_BATCH,
+                CreateCourseBatchStatusDTO.ALREADY_EXISTS
+        );
+        assertThat(result.results()).extracting("index").containsExactly(0, 1, 2, 3);
+        assertThat(result.results().get(0).course().id()).isNotNull();
+        assertThat(result.results().get(1).course().name()).isEqualTo("Spring in Depth");
+        assertThat(result.results().get(2).course()).isNull();
+        assertThat(result.results().get(3).course()).isNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(courseRepository).findExistingLowerCaseNames(namesCaptor.capture());
+        assertThat(namesCaptor.getValue()).containsExactlyInAnyOrder("java for beginners", "spring in depth", "existing course");
+
+        var insertedNames = ArgumentCaptor.forClass(String[].class);
+        verify(courseRepository).insertSkippingConflicts(eq(professorId), any(), insertedNames.capture(), any());
+        assertThat(insertedNames.getValue()).containsExactly("Java for Beginners", "Spring in Depth");
+        verifyNoMoreInteractions(courseRepository);
+
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match("Java for Beginners", "Backend"),
+                new CoursesChangedEvent.Match("Spring in Depth", "Backend")
+        )));
+    }
+
+    @Test
+    @DisplayName("Should report a name taken concurrently after the lookup as already existing")
+    void shouldReportANameTakenConcurrentlyAfterTheLookupAsAlreadyExisting() {
+        var professorId = UUID.randomUUID();
+        var request = buildRequest("Java for Beginners", "Spring in Depth");
+
+        when(professorRepository.existsById(professorId)).thenReturn(true);
+        when(courseRepository.findExistingLowerCaseNames(any())).thenReturn(Set.of());
+        // ON CONFLICT DO NOTHING leaves the conflicting row out of RETURNING
+        when(courseRepository.insertSkippingConflicts(eq(professorId), any(), any(), any())).thenAnswer(invocation -> inserted(
+                new UUID[]{((UUID[]) invocation.getArgument(1))[1]},
+                new String[]{"Spring in Depth"}
+        ));
+
+        var result = createCoursesBatchService.execute(request, professorId);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.results()).extracting("status").containsExactly(
+                CreateCourseBatchStatusDTO.ALREADY_EXISTS,
+                CreateCourseBatchStatusDTO.CREATED
+        );
+        assertThat(result.results().get(0).course()).isNull();
+        assertThat(result.results().get(1).course().name()).isEqualTo("Spring in Depth");
+
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.created(List.of(
+                new CoursesChangedEvent.Match("Spring in Depth", "Backend")
+        )));
+    }
+
+    private static List<CourseEntity> inserted(UUID[] ids, String[] names) {
+        var courses = new ArrayList<CourseEntity>();
+
+        for (int i = 0; i < ids.length; i++) {
+            courses.add(CourseEntity.builder()
+                    .id(ids[i])
+                    .name(names[i])
+                    .category("Backend")
+                    .version(0L)
+                    .build());
+        }
+
+        return courses;
+    }
+
+    private CreateCoursesBatchRequestDTO buildRequest(String... names) {
+        var courses = Arrays.stream(names)
+                .map(name -> CreateCourseRequestDTO.builder()
+                        .name(name)
+                        .category("Backend")
+                        .build())
+                .toList();
+
+        return CreateCoursesBatchRequestDTO.builder()
+                .courses(courses)
+                .build();
+    }
+}
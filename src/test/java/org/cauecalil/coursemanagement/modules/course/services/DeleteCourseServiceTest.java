@@ -1,121 +1,101 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
 import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseVersionMismatchException;
 import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteCourseServiceTest {
     @Mock
-    private ProfessorRepository professorRepository;
+    private CourseRepository courseRepository;
 
     @Mock
-    private CourseRepository courseRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private DeleteCourseService deleteCourseService;
 
     @Test
-    @DisplayName("Should not be able to delete course without professor")
-    public void shouldNotBeAbleToDeleteCourseWithoutProfessor() {
+    @DisplayName("Should not be able to delete course when course does not exist")
+    public void shouldNotBeAbleToDeleteWhenCourseDoesNotExist() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.empty());
+        when(courseRepository.deleteByIdAndProfessorId(courseId, professorId, null)).thenReturn(0);
+        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId))
-                .isInstanceOf(ProfessorNotFoundException.class);
+        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId, null))
+                .isInstanceOf(CourseNotFoundException.class);
 
-        verify(professorRepository).findById(professorId);
-        verifyNoMoreInteractions(professorRepository);
-        verifyNoInteractions(courseRepository);
+        verify(courseRepository).deleteByIdAndProfessorId(courseId, professorId, null);
+        verify(courseRepository).findById(courseId);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Should not be able to delete course when course does not exist")
-    public void shouldNotBeAbleToDeleteWhenCourseDoesNotExist() {
+    @DisplayName("Should not be able to delete another professor course")
+    public void shouldNotBeAbleToDeleteAnotherProfessorCourse() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+        when(courseRepository.deleteByIdAndProfessorId(courseId, professorId, null)).thenReturn(0);
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(buildCourse(courseId, UUID.randomUUID())));
 
-        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId))
-                .isInstanceOf(CourseNotFoundException.class);
+        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId, null))
+                .isInstanceOf(InvalidCourseUpdateException.class);
 
-        verify(professorRepository).findById(professorId);
+        verify(courseRepository).deleteByIdAndProfessorId(courseId, professorId, null);
         verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).deleteById(any(UUID.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Should not be able to delete another professor course")
-    public void shouldNotBeAbleToDeleteAnotherProfessorCourse() {
+    @DisplayName("Should not be able to delete a course that changed since the expected version")
+    public void shouldNotBeAbleToDeleteACourseThatChangedSinceTheExpectedVersion() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
-        var anotherProfessorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        when(courseRepository.deleteByIdAndProfessorId(courseId, professorId, new Long[]{1L})).thenReturn(0);
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(buildCourse(courseId, professorId)));
 
-        var anotherProfessor = ProfessorEntity.builder()
-                .id(anotherProfessorId)
-                .name("Another Professor Name")
-                .email("another.professor@email.com")
-                .password("password")
-                .build();
+        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId, new Long[]{1L}))
+                .isInstanceOf(CourseVersionMismatchException.class);
 
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(anotherProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        verifyNoInteractions(eventPublisher);
+    }
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+    @Test
+    @DisplayName("Should report a missing course before an If-Match that matches no version")
+    public void shouldReportAMissingCourseBeforeAnIfMatchThatMatchesNoVersion() {
+        var courseId = UUID.randomUUID();
+        var professorId = UUID.randomUUID();
 
-        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId))
-                .isInstanceOf(InvalidCourseUpdateException.class);
+        when(courseRepository.deleteByIdAndProfessorId(courseId, professorId, new Long[0])).thenReturn(0);
+        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).deleteById(any(UUID.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        assertThatThrownBy(() -> deleteCourseService.execute(courseId, professorId, new Long[0]))
+                .isInstanceOf(CourseNotFoundException.class);
+
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -124,34 +104,22 @@ public class DeleteCourseServiceTest {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        when(courseRepository.deleteByIdAndProfessorId(courseId, professorId, new Long[]{2L})).thenReturn(1);
+
+        deleteCourseService.execute(courseId, professorId, new Long[]{2L});
+
+        verify(courseRepository).deleteByIdAndProfessorId(courseId, professorId, new Long[]{2L});
+        verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.updated(courseId));
+    }
 
-        var course = CourseEntity.builder()
+    private static CourseEntity buildCourse(UUID courseId, UUID professorId) {
+        return CourseEntity.builder()
                 .id(courseId)
                 .name("Course Name")
                 .category("Course Category")
-                .active(true)
-                .professor(professor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .professor(ProfessorEntity.builder().id(professorId).build())
+                .version(2L)
                 .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-
-        deleteCourseService.execute(courseId, professorId);
-
-        ArgumentCaptor<UUID> idCaptor = ArgumentCaptor.forClass(UUID.class);
-        verify(courseRepository).deleteById(idCaptor.capture());
-        assertThat(idCaptor.getValue()).isEqualTo(courseId);
-
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verifyNoMoreInteractions(professorRepository, courseRepository);
     }
 }
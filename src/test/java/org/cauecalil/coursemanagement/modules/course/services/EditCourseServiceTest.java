@@ -1,21 +1,21 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
-import org.cauecalil.coursemanagement.exceptions.domain.course.CourseAlreadyExistsException;
 import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseVersionMismatchException;
 import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.dtos.EditCourseRequestDTO;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -28,34 +28,14 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class EditCourseServiceTest {
     @Mock
-    private ProfessorRepository professorRepository;
+    private CourseRepository courseRepository;
 
     @Mock
-    private CourseRepository courseRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private EditCourseService editCourseService;
 
-    @Test
-    @DisplayName("Should not be able to edit course without professor")
-    public void shouldNotBeAbleToEditCourseWithoutProfessor() {
-        var courseId = UUID.randomUUID();
-        var professorId = UUID.randomUUID();
-
-        var request = EditCourseRequestDTO.builder()
-                .name("Course Name")
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
-                .isInstanceOf(ProfessorNotFoundException.class);
-
-        verify(professorRepository).findById(professorId);
-        verifyNoMoreInteractions(professorRepository);
-        verifyNoInteractions(courseRepository);
-    }
-
     @Test
     @DisplayName("Should not be able to edit course without course")
     public void shouldNotBeAbleToEditCourseWithoutCourse() {
@@ -63,26 +43,19 @@ public class EditCourseServiceTest {
         var professorId = UUID.randomUUID();
 
         var request = EditCourseRequestDTO.builder()
-                .name("Course Name")
-                .build();
-
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
+                .name("New Course Name")
                 .build();
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, null, "New Course Name", null)).thenReturn(Optional.empty());
         when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
+        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId, null))
                 .isInstanceOf(CourseNotFoundException.class);
 
-        verify(professorRepository).findById(professorId);
+        verify(courseRepository).updateByIdAndProfessorId(courseId, professorId, null, "New Course Name", null);
         verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -92,143 +65,68 @@ public class EditCourseServiceTest {
         var professorId = UUID.randomUUID();
 
         var request = EditCourseRequestDTO.builder()
-                .name("Course Name")
-                .build();
-
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
+                .name("New Course Name")
                 .build();
 
-        var anotherProfessorId = UUID.randomUUID();
-
-        var anotherProfessor = ProfessorEntity.builder()
-                .id(anotherProfessorId)
-                .name("Another Professor Name")
-                .email("another.professor@email.com")
-                .password("password")
-                .build();
+        var course = buildCourse(courseId, UUID.randomUUID(), 3L);
 
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(anotherProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, null, "New Course Name", null)).thenReturn(Optional.empty());
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
 
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
+        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId, null))
                 .isInstanceOf(InvalidCourseUpdateException.class);
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).existsByNameIgnoreCase(anyString());
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Should not be able to edit course when request has no fields")
-    public void shouldNotBeAbleToEditCourseWhenRequestHasNoFields() {
+    @DisplayName("Should not be able to edit a course that changed since the expected version")
+    public void shouldNotBeAbleToEditACourseThatChangedSinceTheExpectedVersion() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var request = EditCourseRequestDTO.builder().build();
-
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
+        var request = EditCourseRequestDTO.builder()
+                .category("New Category")
                 .build();
 
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        var course = buildCourse(courseId, professorId, 4L);
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, new Long[]{3L}, null, "New Category")).thenReturn(Optional.empty());
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
 
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
+        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId, new Long[]{3L}))
+                .isInstanceOf(CourseVersionMismatchException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not be able to edit course when request has no fields")
+    public void shouldNotBeAbleToEditCourseWhenRequestHasNoFields() {
+        var request = EditCourseRequestDTO.builder().build();
+
+        assertThatThrownBy(() -> editCourseService.execute(UUID.randomUUID(), request, UUID.randomUUID(), null))
                 .isInstanceOf(InvalidCourseUpdateException.class);
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).existsByNameIgnoreCase(anyString());
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoInteractions(courseRepository, eventPublisher);
     }
 
     @Test
     @DisplayName("Should not be able to edit course name and category at the same time")
     public void shouldNotBeAbleToEditCourseNameAndCategoryAtTheSameTime() {
-        var courseId = UUID.randomUUID();
-        var professorId = UUID.randomUUID();
-
         var request = EditCourseRequestDTO.builder()
                 .name("Course Name")
                 .category("Course Category")
                 .build();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
+        assertThatThrownBy(() -> editCourseService.execute(UUID.randomUUID(), request, UUID.randomUUID(), null))
                 .isInstanceOf(InvalidCourseUpdateException.class);
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).existsByNameIgnoreCase(anyString());
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoInteractions(courseRepository, eventPublisher);
     }
 
     @Test
-    @DisplayName("Should not be able to edit course with same name of another course")
+    @DisplayName("Should let the unique name index reject the same name of another course")
     public void shouldNotBeAbleToEditCourseWithSameNameOfAnotherCourse() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
@@ -237,42 +135,15 @@ public class EditCourseServiceTest {
                 .name("Another Course Name")
                 .build();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseRepository.existsByNameIgnoreCase("Another Course Name")).thenReturn(true);
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, null, "Another Course Name", null))
+                .thenThrow(new DataIntegrityViolationException("uq_courses_name_lower"));
 
-        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId))
-                .isInstanceOf(CourseAlreadyExistsException.class);
+        assertThatThrownBy(() -> editCourseService.execute(courseId, request, professorId, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository).existsByNameIgnoreCase("Another Course Name");
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verify(courseRepository).updateByIdAndProfessorId(courseId, professorId, null, "Another Course Name", null);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -285,67 +156,22 @@ public class EditCourseServiceTest {
                 .name("New Course Name")
                 .build();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        // Different instance (same id) to ensure ownership check doesn't rely on reference equality
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        var savedCourse = CourseEntity.builder()
-                .id(courseId)
-                .name("New Course Name")
-                .category(course.getCategory())
-                .active(course.getActive())
-                .professor(course.getProfessor())
-                .createdAt(course.getCreatedAt())
-                .updatedAt(course.getUpdatedAt().plusMinutes(1))
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseRepository.existsByNameIgnoreCase("New Course Name")).thenReturn(false);
-        when(courseRepository.save(any(CourseEntity.class))).thenReturn(savedCourse);
-
-        var response = editCourseService.execute(courseId, request, professorId);
+        var savedCourse = buildCourse(courseId, professorId, 2L);
+        savedCourse.setName("New Course Name");
 
-        ArgumentCaptor<CourseEntity> courseCaptor = ArgumentCaptor.forClass(CourseEntity.class);
-        verify(courseRepository).save(courseCaptor.capture());
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, new Long[]{1L}, "New Course Name", null)).thenReturn(Optional.of(savedCourse));
 
-        var entityToSave = courseCaptor.getValue();
-        assertThat(entityToSave.getId()).isEqualTo(courseId);
-        assertThat(entityToSave.getName()).isEqualTo(request.name());
-        assertThat(entityToSave.getCategory()).isEqualTo("Course Category");
-        assertThat(entityToSave.getActive()).isEqualTo(course.getActive());
-        assertThat(entityToSave.getProfessor()).isEqualTo(courseProfessor);
+        var response = editCourseService.execute(courseId, request, professorId, new Long[]{1L});
 
         assertThat(response.id()).isEqualTo(courseId);
         assertThat(response.name()).isEqualTo(request.name());
         assertThat(response.category()).isEqualTo("Course Category");
         assertThat(response.active()).isTrue();
+        assertThat(response.version()).isEqualTo(2L);
 
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository).existsByNameIgnoreCase("New Course Name");
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verify(courseRepository).updateByIdAndProfessorId(courseId, professorId, new Long[]{1L}, "New Course Name", null);
+        verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.updated(courseId, "New Course Name", "Course Category"));
     }
 
     @Test
@@ -358,65 +184,39 @@ public class EditCourseServiceTest {
                 .category("New Course Category")
                 .build();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        var savedCourse = buildCourse(courseId, professorId, 1L);
+        savedCourse.setCategory("New Course Category");
+
+        when(courseRepository.updateByIdAndProfessorId(courseId, professorId, null, null, "New Course Category")).thenReturn(Optional.of(savedCourse));
+
+        var response = editCourseService.execute(courseId, request, professorId, null);
 
-        // Different instance (same id) to ensure ownership check doesn't rely on reference equality
-        var courseProfessor = ProfessorEntity.builder()
+        assertThat(response.id()).isEqualTo(courseId);
+        assertThat(response.name()).isEqualTo("Course Name");
+        assertThat(response.category()).isEqualTo(request.category());
+        assertThat(response.version()).isEqualTo(1L);
+
+        verify(courseRepository).updateByIdAndProfessorId(courseId, professorId, null, null, "New Course Category");
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    private static CourseEntity buildCourse(UUID courseId, UUID professorId, Long version) {
+        var professor = ProfessorEntity.builder()
                 .id(professorId)
                 .name("Professor Name")
                 .email("professor@email.com")
                 .password("password")
                 .build();
 
-        var course = CourseEntity.builder()
+        return CourseEntity.builder()
                 .id(courseId)
                 .name("Course Name")
                 .category("Course Category")
                 .active(true)
-                .professor(courseProfessor)
+                .professor(professor)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(version)
                 .build();
-
-        var savedCourse = CourseEntity.builder()
-                .id(courseId)
-                .name(course.getName())
-                .category("New Course Category")
-                .active(course.getActive())
-                .professor(course.getProfessor())
-                .createdAt(course.getCreatedAt())
-                .updatedAt(course.getUpdatedAt().plusMinutes(1))
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseRepository.save(any(CourseEntity.class))).thenReturn(savedCourse);
-
-        var response = editCourseService.execute(courseId, request, professorId);
-
-        ArgumentCaptor<CourseEntity> courseCaptor = ArgumentCaptor.forClass(CourseEntity.class);
-        verify(courseRepository).save(courseCaptor.capture());
-
-        var entityToSave = courseCaptor.getValue();
-        assertThat(entityToSave.getId()).isEqualTo(courseId);
-        assertThat(entityToSave.getName()).isEqualTo("Course Name");
-        assertThat(entityToSave.getCategory()).isEqualTo(request.category());
-        assertThat(entityToSave.getActive()).isEqualTo(course.getActive());
-        assertThat(entityToSave.getProfessor()).isEqualTo(courseProfessor);
-
-        assertThat(response.id()).isEqualTo(courseId);
-        assertThat(response.name()).isEqualTo("Course Name");
-        assertThat(response.category()).isEqualTo(request.category());
-        assertThat(response.active()).isTrue();
-
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).existsByNameIgnoreCase(anyString());
-        verifyNoMoreInteractions(professorRepository, courseRepository);
     }
 }
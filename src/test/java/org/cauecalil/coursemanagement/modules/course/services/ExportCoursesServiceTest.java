@@ -0,0 +1,110 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseExportFormatDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportCoursesServiceTest {
+    @Mock
+    private CourseRepository courseRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private ExportCoursesService exportCoursesService;
+
+    @BeforeEach
+    void setUp() {
+        exportCoursesService = new ExportCoursesService(courseRepository, jsonMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line in NDJSON format")
+    void shouldWriteOneJsonDocumentPerLineInNdjsonFormat() throws Exception {
+        var first = buildCourse("Java for Beginners");
+        var second = buildCourse("Spring in Depth");
+
+        when(courseRepository.streamCourses()).thenReturn(Stream.of(first, second));
+
+        var output = new ByteArrayOutputStream();
+        exportCoursesService.execute(CourseExportFormatDTO.NDJSON, output);
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(jsonMapper.readValue(lines[0], FindCoursesResponseDTO.class)).isEqualTo(first);
+        assertThat(jsonMapper.readValue(lines[1], FindCoursesResponseDTO.class)).isEqualTo(second);
+
+        verify(courseRepository).streamCourses();
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should write a single JSON array in JSON format")
+    void shouldWriteASingleJsonArrayInJsonFormat() throws Exception {
+        var first = buildCourse("Java for Beginners");
+        var second = buildCourse("Spring in Depth");
+
+        when(courseRepository.streamCourses()).thenReturn(Stream.of(first, second));
+
+        var output = new ByteArrayOutputStream();
+        exportCoursesService.execute(CourseExportFormatDTO.JSON, output);
+
+        var result = jsonMapper.readValue(output.toByteArray(), FindCoursesResponseDTO[].class);
+
+        assertThat(result).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("Should write an empty JSON array when there are no courses")
+    void shouldWriteAnEmptyJsonArrayWhenThereAreNoCourses() throws Exception {
+        when(courseRepository.streamCourses()).thenReturn(Stream.empty());
+
+        var output = new ByteArrayOutputStream();
+        exportCoursesService.execute(CourseExportFormatDTO.JSON, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should close the repository stream after exporting")
+    void shouldCloseTheRepositoryStreamAfterExporting() throws Exception {
+        var closed = new AtomicBoolean(false);
+
+        when(courseRepository.streamCourses()).thenReturn(
+                Stream.of(buildCourse("Java for Beginners")).onClose(() -> closed.set(true))
+        );
+
+        exportCoursesService.execute(CourseExportFormatDTO.NDJSON, new ByteArrayOutputStream());
+
+        assertThat(closed).isTrue();
+    }
+
+    private FindCoursesResponseDTO buildCourse(String name) {
+        return FindCoursesResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .category("Backend")
+                .active(true)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,62 +1,79 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseCursorException;
+import org.cauecalil.coursemanagement.modules.course.cache.CourseSearchCache;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCursorDTO;
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseSortDTO;
 import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesQueryDTO;
-import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.dtos.FindCoursesResponseDTO;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FindCoursesServiceTest {
+    private static final CourseCatalogVersionDTO CATALOG_VERSION = new CourseCatalogVersionDTO(1L);
+
     @Mock
     private CourseRepository courseRepository;
 
+    // disabled, so every call reaches the repository
+    @Spy
+    private CourseSearchCache courseSearchCache = new CourseSearchCache(false, 1, Duration.ofMinutes(1), 1, new SimpleMeterRegistry(), Duration.ZERO);
+
     @InjectMocks
     private FindCoursesService findCoursesService;
 
     @Test
-    @DisplayName("Should return empty list when repository returns no courses")
-    void shouldReturnEmptyListWhenRepositoryReturnsNoCourses() {
+    @DisplayName("Should return empty page when repository returns no courses")
+    void shouldReturnEmptyPageWhenRepositoryReturnsNoCourses() {
         var query = FindCoursesQueryDTO.builder()
                 .name(null)
                 .category(null)
                 .build();
 
-        when(courseRepository.findCourses(null, null)).thenReturn(List.of());
+        when(courseRepository.findCourses(null, null, CourseSortDTO.CREATED_AT, null, FindCoursesService.DEFAULT_LIMIT + 1)).thenReturn(List.of());
 
-        var result = findCoursesService.execute(query);
+        var result = findCoursesService.execute(query, CATALOG_VERSION);
 
         assertThat(result).isNotNull();
-        assertThat(result).isEmpty();
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
 
-        verify(courseRepository).findCourses(null, null);
+        verify(courseRepository).findCourses(null, null, CourseSortDTO.CREATED_AT, null, FindCoursesService.DEFAULT_LIMIT + 1);
         verifyNoMoreInteractions(courseRepository);
     }
 
     @Test
-    @DisplayName("Should call repository with query params and map entity to DTO correctly")
-    void shouldCallRepositoryWithQueryParamsAndMapEntityToDtoCorrectly() {
+    @DisplayName("Should call repository with query params and return projected courses")
+    void shouldCallRepositoryWithQueryParamsAndReturnProjectedCourses() {
         var query = FindCoursesQueryDTO.builder()
                 .name("java")
                 .category("backend")
+                .limit(10)
                 .build();
 
         var courseId = UUID.randomUUID();
         var createdAt = LocalDateTime.now().minusDays(2);
         var updatedAt = LocalDateTime.now().minusDays(1);
 
-        var course = CourseEntity.builder()
+        var course = FindCoursesResponseDTO.builder()
                 .id(courseId)
                 .name("Java for Beginners")
                 .category("Backend")
@@ -65,12 +82,13 @@ class FindCoursesServiceTest {
                 .updatedAt(updatedAt)
                 .build();
 
-        when(courseRepository.findCourses("java", "backend")).thenReturn(List.of(course));
+        when(courseRepository.findCourses("java", "backend", CourseSortDTO.CREATED_AT, null, 11)).thenReturn(List.of(course));
 
-        var result = findCoursesService.execute(query);
+        var result = findCoursesService.execute(query, CATALOG_VERSION);
 
-        assertThat(result).hasSize(1);
-        var dto = result.getFirst();
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+        var dto = result.items().getFirst();
 
         assertThat(dto.id()).isEqualTo(courseId);
         assertThat(dto.name()).isEqualTo("Java for Beginners");
@@ -79,23 +97,115 @@ class FindCoursesServiceTest {
         assertThat(dto.createdAt()).isEqualTo(createdAt);
         assertThat(dto.updatedAt()).isEqualTo(updatedAt);
 
-        verify(courseRepository).findCourses("java", "backend");
+        verify(courseRepository).findCourses("java", "backend", CourseSortDTO.CREATED_AT, null, 11);
         verifyNoMoreInteractions(courseRepository);
     }
 
     @Test
-    @DisplayName("Should pass null filters to repository when query has null name/category")
-    void shouldPassNullFiltersToRepositoryWhenQueryHasNullNameCategory() {
+    @DisplayName("Should return next cursor pointing to last item when more courses exist")
+    void shouldReturnNextCursorPointingToLastItemWhenMoreCoursesExist() {
         var query = FindCoursesQueryDTO.builder()
-                .name(null)
-                .category(null)
+                .limit(2)
                 .build();
 
-        when(courseRepository.findCourses(null, null)).thenReturn(List.of());
+        var first = buildCourse(LocalDateTime.now().minusDays(3));
+        var second = buildCourse(LocalDateTime.now().minusDays(2));
+        var third = buildCourse(LocalDateTime.now().minusDays(1));
+
+        when(courseRepository.findCourses(null, null, CourseSortDTO.CREATED_AT, null, 3)).thenReturn(List.of(first, second, third));
+
+        var result = findCoursesService.execute(query, CATALOG_VERSION);
+
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.items()).extracting("id").containsExactly(first.id(), second.id());
 
-        findCoursesService.execute(query);
+        var cursor = CourseCursorDTO.decode(result.nextCursor());
+        assertThat(cursor.createdAt()).isEqualTo(second.createdAt());
+        assertThat(cursor.id()).isEqualTo(second.id());
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and pass it to repository")
+    void shouldDecodeCursorAndPassItToRepository() {
+        var after = new CourseCursorDTO(LocalDateTime.now().minusDays(1), UUID.randomUUID());
+
+        var query = FindCoursesQueryDTO.builder()
+                .cursor(after.encode())
+                .limit(5)
+                .build();
 
-        verify(courseRepository).findCourses(null, null);
+        when(courseRepository.findCourses(null, null, CourseSortDTO.CREATED_AT, after, 6)).thenReturn(List.of());
+
+        var result = findCoursesService.execute(query, CATALOG_VERSION);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+
+        verify(courseRepository).findCourses(null, null, CourseSortDTO.CREATED_AT, after, 6);
         verifyNoMoreInteractions(courseRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not be able to find courses with invalid cursor")
+    void shouldNotBeAbleToFindCoursesWithInvalidCursor() {
+        var query = FindCoursesQueryDTO.builder()
+                .cursor("not-a-cursor")
+                .build();
+
+        assertThatThrownBy(() -> findCoursesService.execute(query, CATALOG_VERSION))
+                .isInstanceOf(InvalidCourseCursorException.class);
+
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should rank by relevance without fetching an extra row or returning a cursor")
+    void shouldRankByRelevanceWithoutFetchingAnExtraRowOrReturningACursor() {
+        var query = FindCoursesQueryDTO.builder()
+                .name("java")
+                .sort(CourseSortDTO.RELEVANCE)
+                .limit(2)
+                .build();
+
+        var first = buildCourse(LocalDateTime.now().minusDays(1));
+        var second = buildCourse(LocalDateTime.now().minusDays(2));
+
+        when(courseRepository.findCourses("java", null, CourseSortDTO.RELEVANCE, null, 2)).thenReturn(List.of(first, second));
+
+        var result = findCoursesService.execute(query, CATALOG_VERSION);
+
+        assertThat(result.items()).extracting("id").containsExactly(first.id(), second.id());
+        assertThat(result.nextCursor()).isNull();
+
+        verify(courseRepository).findCourses("java", null, CourseSortDTO.RELEVANCE, null, 2);
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should not be able to use a cursor when sorting by relevance")
+    void shouldNotBeAbleToUseACursorWhenSortingByRelevance() {
+        var after = new CourseCursorDTO(LocalDateTime.now(), UUID.randomUUID());
+
+        var query = FindCoursesQueryDTO.builder()
+                .name("java")
+                .cursor(after.encode())
+                .sort(CourseSortDTO.RELEVANCE)
+                .build();
+
+        assertThatThrownBy(() -> findCoursesService.execute(query, CATALOG_VERSION))
+                .isInstanceOf(InvalidCourseCursorException.class);
+
+        verifyNoInteractions(courseRepository);
+    }
+
+    private FindCoursesResponseDTO buildCourse(LocalDateTime createdAt) {
+        return FindCoursesResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Course Name")
+                .category("Course Category")
+                .active(true)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package org.cauecalil.coursemanagement.modules.course.services;
+
+import org.cauecalil.coursemanagement.modules.course.dtos.CourseCatalogVersionDTO;
+import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCourseCatalogVersionServiceTest {
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private GetCourseCatalogVersionService getCourseCatalogVersionService;
+
+    @Test
+    @DisplayName("Should return the catalog version")
+    void shouldReturnTheCatalogVersion() {
+        var version = new CourseCatalogVersionDTO(42L);
+
+        when(courseRepository.findCatalogVersion()).thenReturn(version);
+
+        var result = getCourseCatalogVersionService.execute();
+
+        assertThat(result).isEqualTo(version);
+
+        verify(courseRepository).findCatalogVersion();
+        verifyNoMoreInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when the version moves")
+    void shouldChangeTheETagWhenTheVersionMoves() {
+        var version = new CourseCatalogVersionDTO(42L);
+
+        assertThat(version.etag()).isEqualTo("\"42\"");
+        assertThat(version.etag()).isEqualTo(new CourseCatalogVersionDTO(42L).etag());
+        assertThat(new CourseCatalogVersionDTO(43L).etag()).isNotEqualTo(version.etag());
+    }
+}
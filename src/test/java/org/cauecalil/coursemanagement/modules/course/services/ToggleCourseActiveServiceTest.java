@@ -1,21 +1,20 @@
 package org.cauecalil.coursemanagement.modules.course.services;
 
 import org.cauecalil.coursemanagement.exceptions.domain.course.CourseNotFoundException;
+import org.cauecalil.coursemanagement.exceptions.domain.course.CourseVersionMismatchException;
 import org.cauecalil.coursemanagement.exceptions.domain.course.InvalidCourseUpdateException;
-import org.cauecalil.coursemanagement.exceptions.domain.professor.ProfessorNotFoundException;
 import org.cauecalil.coursemanagement.modules.course.entities.CourseEntity;
+import org.cauecalil.coursemanagement.modules.course.events.CoursesChangedEvent;
 import org.cauecalil.coursemanagement.modules.course.repositories.CourseRepository;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
-import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,53 +25,30 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class ToggleCourseActiveServiceTest {
     @Mock
-    private ProfessorRepository professorRepository;
+    private CourseRepository courseRepository;
 
     @Mock
-    private CourseRepository courseRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ToggleCourseActiveService toggleCourseActiveService;
 
-    @Test
-    @DisplayName("Should not be able to toggle course active without professor")
-    public void shouldNotBeAbleToToggleCourseActiveWithoutProfessor() {
-        var courseId = UUID.randomUUID();
-        var professorId = UUID.randomUUID();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId))
-                .isInstanceOf(ProfessorNotFoundException.class);
-
-        verify(professorRepository).findById(professorId);
-        verifyNoMoreInteractions(professorRepository);
-        verifyNoInteractions(courseRepository);
-    }
-
     @Test
     @DisplayName("Should not be able to toggle course active when course does not exist")
     public void shouldNotBeAbleToToggleCourseActiveWhenCourseDoesNotExist() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
+        when(courseRepository.toggleActiveByIdAndProfessorId(courseId, professorId, null)).thenReturn(Optional.empty());
         when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId))
+        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId, null))
                 .isInstanceOf(CourseNotFoundException.class);
 
-        verify(professorRepository).findById(professorId);
+        verify(courseRepository).toggleActiveByIdAndProfessorId(courseId, professorId, null);
         verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -80,139 +56,62 @@ public class ToggleCourseActiveServiceTest {
     public void shouldNotBeAbleToToggleAnotherProfessorCourse() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
-        var anotherProfessorId = UUID.randomUUID();
-
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
 
-        var anotherProfessor = ProfessorEntity.builder()
-                .id(anotherProfessorId)
-                .name("Another Professor Name")
-                .email("another.professor@email.com")
-                .password("password")
-                .build();
+        when(courseRepository.toggleActiveByIdAndProfessorId(courseId, professorId, null)).thenReturn(Optional.empty());
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(buildCourse(courseId, UUID.randomUUID(), true, 0L)));
 
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(anotherProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-
-        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId))
+        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId, null))
                 .isInstanceOf(InvalidCourseUpdateException.class);
 
-        verify(professorRepository).findById(professorId);
+        verify(courseRepository).toggleActiveByIdAndProfessorId(courseId, professorId, null);
         verify(courseRepository).findById(courseId);
-        verify(courseRepository, never()).save(any(CourseEntity.class));
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Should be able to toggle course active from true to false successfully")
-    public void shouldBeAbleToToggleCourseActiveFromTrueToFalseSuccessfully() {
+    @DisplayName("Should not be able to toggle a course that changed since the expected version")
+    public void shouldNotBeAbleToToggleACourseThatChangedSinceTheExpectedVersion() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
-
-        // different instance, same id
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        when(courseRepository.toggleActiveByIdAndProfessorId(courseId, professorId, new Long[]{0L})).thenReturn(Optional.empty());
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(buildCourse(courseId, professorId, true, 1L)));
 
-        var course = CourseEntity.builder()
-                .id(courseId)
-                .name("Course Name")
-                .category("Course Category")
-                .active(true)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        assertThatThrownBy(() -> toggleCourseActiveService.execute(courseId, professorId, new Long[]{0L}))
+                .isInstanceOf(CourseVersionMismatchException.class);
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseRepository.save(any(CourseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        toggleCourseActiveService.execute(courseId, professorId);
-
-        ArgumentCaptor<CourseEntity> courseCaptor = ArgumentCaptor.forClass(CourseEntity.class);
-        verify(courseRepository).save(courseCaptor.capture());
-
-        var savedEntity = courseCaptor.getValue();
-        assertThat(savedEntity.getId()).isEqualTo(courseId);
-        assertThat(savedEntity.getActive()).isFalse();
-
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verifyNoMoreInteractions(professorRepository, courseRepository);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
-    @DisplayName("Should be able to toggle course active from false to true successfully")
-    public void shouldBeAbleToToggleCourseActiveFromFalseToTrueSuccessfully() {
+    @DisplayName("Should be able to toggle course active and return the new state")
+    public void shouldBeAbleToToggleCourseActiveAndReturnTheNewState() {
         var courseId = UUID.randomUUID();
         var professorId = UUID.randomUUID();
 
-        var professor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        when(courseRepository.toggleActiveByIdAndProfessorId(courseId, professorId, new Long[]{4L}))
+                .thenReturn(Optional.of(buildCourse(courseId, professorId, false, 5L)));
 
-        // different instance, same id
-        var courseProfessor = ProfessorEntity.builder()
-                .id(professorId)
-                .name("Professor Name")
-                .email("professor@email.com")
-                .password("password")
-                .build();
+        var result = toggleCourseActiveService.execute(courseId, professorId, new Long[]{4L});
+
+        assertThat(result.id()).isEqualTo(courseId);
+        assertThat(result.active()).isFalse();
+        assertThat(result.version()).isEqualTo(5L);
 
-        var course = CourseEntity.builder()
+        verify(courseRepository).toggleActiveByIdAndProfessorId(courseId, professorId, new Long[]{4L});
+        verifyNoMoreInteractions(courseRepository);
+        verify(eventPublisher).publishEvent(CoursesChangedEvent.updated(courseId));
+    }
+
+    private static CourseEntity buildCourse(UUID courseId, UUID professorId, boolean active, Long version) {
+        return CourseEntity.builder()
                 .id(courseId)
                 .name("Course Name")
                 .category("Course Category")
-                .active(false)
-                .professor(courseProfessor)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .active(active)
+                .professor(ProfessorEntity.builder().id(professorId).build())
+                .version(version)
                 .build();
-
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(professor));
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseRepository.save(any(CourseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        toggleCourseActiveService.execute(courseId, professorId);
-
-        ArgumentCaptor<CourseEntity> courseCaptor = ArgumentCaptor.forClass(CourseEntity.class);
-        verify(courseRepository).save(courseCaptor.capture());
-
-        var savedEntity = courseCaptor.getValue();
-        assertThat(savedEntity.getId()).isEqualTo(courseId);
-        assertThat(savedEntity.getActive()).isTrue();
-
-        verify(professorRepository).findById(professorId);
-        verify(courseRepository).findById(courseId);
-        verifyNoMoreInteractions(professorRepository, courseRepository);
     }
-}
\ No newline at end of file
+}
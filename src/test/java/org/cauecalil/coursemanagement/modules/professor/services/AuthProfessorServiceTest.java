@@ -1,6 +1,8 @@
 package org.cauecalil.coursemanagement.modules.professor.services;
 
+import org.cauecalil.coursemanagement.config.datasource.ReadYourWrites;
 import org.cauecalil.coursemanagement.exceptions.domain.professor.InvalidCredentialsException;
+import org.cauecalil.coursemanagement.exceptions.domain.security.PasswordHashingUnavailableException;
 import org.cauecalil.coursemanagement.modules.professor.dtos.AuthProfessorRequestDTO;
 import org.cauecalil.coursemanagement.modules.professor.entities.ProfessorEntity;
 import org.cauecalil.coursemanagement.modules.professor.repositories.ProfessorRepository;
@@ -9,6 +11,7 @@ import org.cauecalil.coursemanagement.providers.TokenResultDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,6 +20,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +37,9 @@ class AuthProfessorServiceTest {
     @Mock
     private JWTProvider jwtProvider;
 
+    @Mock
+    private ReadYourWrites readYourWrites;
+
     @InjectMocks
     private AuthProfessorService authProfessorService;
 
@@ -54,6 +61,33 @@ class AuthProfessorServiceTest {
         verifyNoInteractions(passwordEncoder, jwtProvider);
     }
 
+    @Test
+    @DisplayName("Should look up a professor missing from the replica on the primary")
+    @SuppressWarnings("unchecked")
+    void shouldLookUpAProfessorMissingFromTheReplicaOnThePrimary() {
+        var request = AuthProfessorRequestDTO.builder()
+                .email("professor@email.com")
+                .password("password")
+                .build();
+
+        var professor = ProfessorEntity.builder()
+                .id(UUID.randomUUID())
+                .email(request.email())
+                .password("encoded-password")
+                .build();
+
+        when(professorRepository.findByEmail(request.email())).thenReturn(Optional.empty(), Optional.of(professor));
+        when(readYourWrites.retryOnPrimary(any())).thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
+        when(passwordEncoder.matches(request.password(), professor.getPassword())).thenReturn(true);
+        when(jwtProvider.generateToken(professor.getId().toString(), List.of("PROFESSOR")))
+                .thenReturn(TokenResultDTO.builder().accessToken("token").build());
+
+        var response = authProfessorService.execute(request);
+
+        assertThat(response.access_token()).isEqualTo("token");
+        verify(professorRepository, times(2)).findByEmail(request.email());
+    }
+
     @Test
     @DisplayName("Should not be able to authenticate when password does not match")
     void shouldNotBeAbleToAuthenticateWhenPasswordDoesNotMatch() {
@@ -114,7 +148,78 @@ class AuthProfessorServiceTest {
 
         verify(professorRepository).findByEmail(request.email());
         verify(passwordEncoder).matches(request.password(), professor.getPassword());
+        verify(passwordEncoder).upgradeEncoding(professor.getPassword());
         verify(jwtProvider).generateToken(professorId.toString(), List.of("PROFESSOR"));
         verifyNoMoreInteractions(professorRepository, passwordEncoder, jwtProvider);
     }
+
+    @Test
+    @DisplayName("Should rehash password on successful authentication when its encoding is outdated")
+    void shouldRehashPasswordOnSuccessfulAuthenticationWhenItsEncodingIsOutdated() {
+        var request = AuthProfessorRequestDTO.builder()
+                .email("professor@email.com")
+                .password("password")
+                .build();
+
+        var professorId = UUID.randomUUID();
+        var professor = ProfessorEntity.builder()
+                .id(professorId)
+                .name("Professor Name")
+                .email(request.email())
+                .password("legacy-encoded-password")
+                .build();
+
+        var tokenResult = TokenResultDTO.builder()
+                .accessToken("jwt-token")
+                .expiresAt(123456789L)
+                .build();
+
+        when(professorRepository.findByEmail(request.email())).thenReturn(Optional.of(professor));
+        when(passwordEncoder.matches(request.password(), "legacy-encoded-password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("legacy-encoded-password")).thenReturn(true);
+        when(passwordEncoder.encode(request.password())).thenReturn("{bcrypt}upgraded-password");
+        when(jwtProvider.generateToken(professorId.toString(), List.of("PROFESSOR"))).thenReturn(tokenResult);
+
+        var response = authProfessorService.execute(request);
+
+        assertThat(response.access_token()).isEqualTo("jwt-token");
+
+        ArgumentCaptor<ProfessorEntity> professorCaptor = ArgumentCaptor.forClass(ProfessorEntity.class);
+        verify(professorRepository).save(professorCaptor.capture());
+        assertThat(professorCaptor.getValue().getPassword()).isEqualTo("{bcrypt}upgraded-password");
+    }
+
+    @Test
+    @DisplayName("Should still authenticate when the password rehash is rejected by the hashing pool")
+    void shouldStillAuthenticateWhenThePasswordRehashIsRejectedByTheHashingPool() {
+        var request = AuthProfessorRequestDTO.builder()
+                .email("professor@email.com")
+                .password("password")
+                .build();
+
+        var professorId = UUID.randomUUID();
+        var professor = ProfessorEntity.builder()
+                .id(professorId)
+                .name("Professor Name")
+                .email(request.email())
+                .password("legacy-encoded-password")
+                .build();
+
+        var tokenResult = TokenResultDTO.builder()
+                .accessToken("jwt-token")
+                .expiresAt(123456789L)
+                .build();
+
+        when(professorRepository.findByEmail(request.email())).thenReturn(Optional.of(professor));
+        when(passwordEncoder.matches(request.password(), "legacy-encoded-password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("legacy-encoded-password")).thenReturn(true);
+        when(passwordEncoder.encode(request.password())).thenThrow(new PasswordHashingUnavailableException());
+        when(jwtProvider.generateToken(professorId.toString(), List.of("PROFESSOR"))).thenReturn(tokenResult);
+
+        var response = authProfessorService.execute(request);
+
+        assertThat(response.access_token()).isEqualTo("jwt-token");
+        assertThat(professor.getPassword()).isEqualTo("legacy-encoded-password");
+        verify(professorRepository, never()).save(any(ProfessorEntity.class));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package org.cauecalil.coursemanagement.providers;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class JWTKeyDirectoryRefresherTest {
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path directory;
+
+    private JWTProvider jwtProvider;
+    private JWTKeyDirectoryRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new JWTProperties("legacy-secret", 60, "k1", Map.of("k1", "secret-one"), directory, Duration.ofMinutes(1));
+        jwtProvider = new JWTProvider(properties, eventPublisher);
+        refresher = new JWTKeyDirectoryRefresher(jwtProvider, properties);
+    }
+
+    @Test
+    @DisplayName("Should keep accepting configured keys after loading the directory")
+    void shouldKeepAcceptingConfiguredKeysAfterLoadingTheDirectory() throws IOException {
+        var configuredToken = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+        var legacyToken = JWT.create().withSubject("subject").sign(Algorithm.HMAC256("legacy-secret"));
+
+        Files.writeString(directory.resolve("k2.key"), "secret-two\n");
+        Files.writeString(directory.resolve("active-key-id"), "k2");
+        refresher.refresh();
+
+        var rotatedToken = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        assertThat(JWT.decode(rotatedToken).getKeyId()).isEqualTo("k2");
+        assertThat(jwtProvider.validateToken(rotatedToken)).isNotNull();
+        assertThat(jwtProvider.validateToken(configuredToken)).isNotNull();
+        assertThat(jwtProvider.validateToken(legacyToken)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore empty key files")
+    void shouldIgnoreEmptyKeyFiles() throws IOException {
+        Files.writeString(directory.resolve("k2.key"), "secret-two");
+        Files.writeString(directory.resolve("k3.key"), "  \n");
+        refresher.refresh();
+
+        var tokenSignedWithK2 = JWT.create().withKeyId("k2").withSubject("subject").sign(Algorithm.HMAC256("secret-two"));
+
+        assertThat(jwtProvider.validateToken(tokenSignedWithK2)).isNotNull();
+        assertThat(jwtProvider.hasKeys(Map.of("default", "legacy-secret", "k1", "secret-one", "k2", "secret-two"), "k1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the current keys when the active key has no secret")
+    void shouldKeepTheCurrentKeysWhenTheActiveKeyHasNoSecret() throws IOException {
+        Files.writeString(directory.resolve("k2.key"), "");
+        Files.writeString(directory.resolve("k3.key"), "secret-three");
+        Files.writeString(directory.resolve("active-key-id"), "k2");
+        refresher.refresh();
+
+        var token = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        assertThat(JWT.decode(token).getKeyId()).isEqualTo("k1");
+    }
+}
@@ -0,0 +1,129 @@
+package org.cauecalil.coursemanagement.providers;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JWTProviderTest {
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JWTProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new JWTProperties("legacy-secret", 60, "k1", Map.of("k1", "secret-one"), null, Duration.ofMinutes(1));
+        jwtProvider = new JWTProvider(properties, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should sign tokens with the active key id and validate them")
+    void shouldSignTokensWithTheActiveKeyIdAndValidateThem() {
+        var token = jwtProvider.generateToken("subject", List.of("PROFESSOR"));
+
+        var decoded = jwtProvider.validateToken(token.accessToken());
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getKeyId()).isEqualTo("k1");
+        assertThat(decoded.getSubject()).isEqualTo("subject");
+        assertThat(decoded.getClaim("roles").asList(String.class)).containsExactly("PROFESSOR");
+    }
+
+    @Test
+    @DisplayName("Should accept tokens with the Bearer prefix")
+    void shouldAcceptTokensWithTheBearerPrefix() {
+        var token = jwtProvider.generateToken("subject", List.of("PROFESSOR"));
+
+        assertThat(jwtProvider.validateToken("Bearer " + token.accessToken())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should validate legacy tokens without key id against the legacy secret")
+    void shouldValidateLegacyTokensWithoutKeyIdAgainstTheLegacySecret() {
+        var legacyToken = JWT.create()
+                .withSubject("subject")
+                .withExpiresAt(Instant.now().plus(Duration.ofMinutes(5)))
+                .sign(Algorithm.HMAC256("legacy-secret"));
+
+        assertThat(jwtProvider.validateToken(legacyToken)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with an unknown key id")
+    void shouldRejectTokensSignedWithAnUnknownKeyId() {
+        var token = JWT.create()
+                .withKeyId("unknown")
+                .withSubject("subject")
+                .sign(Algorithm.HMAC256("secret-one"));
+
+        assertThat(jwtProvider.validateToken(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered and malformed tokens")
+    void shouldRejectTamperedAndMalformedTokens() {
+        var token = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        assertThat(jwtProvider.validateToken(token + "x")).isNull();
+        assertThat(jwtProvider.validateToken("not-a-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep validating tokens from a retained key after rotation")
+    void shouldKeepValidatingTokensFromARetainedKeyAfterRotation() {
+        var oldToken = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        jwtProvider.rotateKeys(Map.of("k1", "secret-one", "k2", "secret-two"), "k2");
+        var newToken = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        assertThat(JWT.decode(newToken).getKeyId()).isEqualTo("k2");
+        assertThat(jwtProvider.validateToken(oldToken)).isNotNull();
+        assertThat(jwtProvider.validateToken(newToken)).isNotNull();
+        verify(eventPublisher).publishEvent(any(JWTKeysRotatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens from a retired key after rotation")
+    void shouldRejectTokensFromARetiredKeyAfterRotation() {
+        var oldToken = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+
+        jwtProvider.rotateKeys(Map.of("k2", "secret-two"), "k2");
+
+        assertThat(jwtProvider.validateToken(oldToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not publish a rotation when the keys did not change")
+    void shouldNotPublishARotationWhenTheKeysDidNotChange() {
+        jwtProvider.rotateKeys(Map.of("legacy", "ignored"), "legacy");
+        jwtProvider.rotateKeys(Map.of("legacy", "ignored"), "legacy");
+
+        verify(eventPublisher, times(1)).publishEvent(any(JWTKeysRotatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should not be able to rotate to an active key without a secret")
+    void shouldNotBeAbleToRotateToAnActiveKeyWithoutASecret() {
+        assertThatThrownBy(() -> jwtProvider.rotateKeys(Map.of("k1", "secret-one"), "k2"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+}
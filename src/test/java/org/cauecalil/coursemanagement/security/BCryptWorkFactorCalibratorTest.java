@@ -0,0 +1,26 @@
+package org.cauecalil.coursemanagement.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptWorkFactorCalibratorTest {
+    @Test
+    @DisplayName("Should pick the highest strength whose projected cost fits the target latency")
+    void shouldPickTheHighestStrengthWhoseProjectedCostFitsTheTargetLatency() {
+        // strength 8 at 4ms projects to 64ms at 12 and 128ms at 13
+        var strength = BCryptWorkFactorCalibrator.strengthFor(Duration.ofMillis(100), Duration.ofMillis(4), 4, 31);
+
+        assertThat(strength).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should clamp the calibrated strength to the configured bounds")
+    void shouldClampTheCalibratedStrengthToTheConfiguredBounds() {
+        assertThat(BCryptWorkFactorCalibrator.strengthFor(Duration.ofMillis(1), Duration.ofMillis(50), 10, 14)).isEqualTo(10);
+        assertThat(BCryptWorkFactorCalibrator.strengthFor(Duration.ofSeconds(10), Duration.ZERO, 10, 14)).isEqualTo(14);
+    }
+}
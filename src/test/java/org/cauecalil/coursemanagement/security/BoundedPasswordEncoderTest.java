@@ -0,0 +1,103 @@
+package org.cauecalil.coursemanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cauecalil.coursemanagement.exceptions.domain.security.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        boundedPasswordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("Should hash and match on the hashing pool and record latency")
+    void shouldHashAndMatchOnTheHashingPoolAndRecordLatency() {
+        release.countDown();
+
+        var encoded = boundedPasswordEncoder.encode("secret");
+
+        assertThat(encoded).startsWith("password-hashing-").endsWith(":secret");
+        assertThat(boundedPasswordEncoder.matches("secret", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("other", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the pool and queue are saturated")
+    void shouldFailFastWhenThePoolAndQueueAreSaturated() throws Exception {
+        var running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("second"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> boundedPasswordEncoder.queueSize() == 1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value()).isEqualTo(1);
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("third"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).endsWith(":first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).endsWith(":second");
+    }
+
+    @Test
+    @DisplayName("Should give up when the hash does not complete within the timeout")
+    void shouldGiveUpWhenTheHashDoesNotCompleteWithinTheTimeout() {
+        boundedPasswordEncoder.close();
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("secret"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+    }
+
+    // blocks until released and tags each hash with the thread that computed it
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.endsWith(":" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.cauecalil.coursemanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTAuthenticationCacheTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private JWTAuthenticationCache jwtAuthenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtAuthenticationCache = new JWTAuthenticationCache(100, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should verify a token only once while it has not expired")
+    void shouldVerifyATokenOnlyOnceWhileItHasNotExpired() {
+        var verifications = new AtomicInteger();
+        var authenticated = buildAuthenticatedToken(NOW.plus(Duration.ofMinutes(30)));
+
+        var first = jwtAuthenticationCache.get("token", token -> {
+            verifications.incrementAndGet();
+            return authenticated;
+        });
+        var second = jwtAuthenticationCache.get("token", token -> {
+            verifications.incrementAndGet();
+            return authenticated;
+        });
+
+        assertThat(first).isEqualTo(authenticated);
+        assertThat(second).isEqualTo(authenticated);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that fail verification")
+    void shouldNotCacheTokensThatFailVerification() {
+        var verifications = new AtomicInteger();
+
+        var first = jwtAuthenticationCache.get("invalid", token -> {
+            verifications.incrementAndGet();
+            return null;
+        });
+        var second = jwtAuthenticationCache.get("invalid", token -> {
+            verifications.incrementAndGet();
+            return null;
+        });
+
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep tokens that are already past their expiration")
+    void shouldNotKeepTokensThatAreAlreadyPastTheirExpiration() {
+        var authenticated = buildAuthenticatedToken(NOW.minus(Duration.ofSeconds(1)));
+
+        jwtAuthenticationCache.get("expired", token -> authenticated);
+
+        assertThat(jwtAuthenticationCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass the original token to the authenticator")
+    void shouldPassTheOriginalTokenToTheAuthenticator() {
+        var authenticated = buildAuthenticatedToken(NOW.plus(Duration.ofMinutes(30)));
+
+        var result = jwtAuthenticationCache.get("raw-token", token -> token.equals("raw-token") ? authenticated : null);
+
+        assertThat(result).isEqualTo(authenticated);
+    }
+
+    @Test
+    @DisplayName("Should publish size and eviction metrics")
+    void shouldPublishSizeAndEvictionMetrics() {
+        jwtAuthenticationCache.get("token", token -> buildAuthenticatedToken(NOW.plus(Duration.ofMinutes(30))));
+
+        assertThat(meterRegistry.get("cache.size").tag("cache", "jwt.authentication").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "jwt.authentication").functionCounter()).isNotNull();
+    }
+
+    private AuthenticatedTokenDTO buildAuthenticatedToken(Instant expiresAt) {
+        return AuthenticatedTokenDTO.builder()
+                .subject("professor-id")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_PROFESSOR")))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package org.cauecalil.coursemanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.cauecalil.coursemanagement.providers.JWTProperties;
+import org.cauecalil.coursemanagement.providers.JWTProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private TestObservationRegistry observationRegistry;
+    private JWTProvider jwtProvider;
+    private SecurityFilter securityFilter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new JWTProperties("legacy-secret", 60, "k1", Map.of("k1", "secret-one"), null, Duration.ofMinutes(1));
+        jwtProvider = new JWTProvider(properties, event -> {});
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = TestObservationRegistry.create();
+        securityFilter = new SecurityFilter(jwtProvider, new JWTAuthenticationCache(100, meterRegistry), meterRegistry, observationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should trace and time the verification of a valid token")
+    void shouldTraceAndTimeTheVerificationOfAValidToken() throws Exception {
+        var token = jwtProvider.generateToken("subject", List.of("PROFESSOR")).accessToken();
+        var chain = new MockFilterChain();
+
+        securityFilter.doFilter(requestWith("Bearer " + token), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("subject");
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "valid").timer().count()).isEqualTo(1);
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasNameEqualTo("security.authentication")
+                .hasContextualNameEqualTo("jwt-authentication")
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid token and count it")
+    void shouldRejectAnInvalidTokenAndCountIt() throws Exception {
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        securityFilter.doFilter(requestWith("Bearer not-a-token"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "invalid").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not start an observation for requests without a token")
+    void shouldNotStartAnObservationForRequestsWithoutAToken() throws Exception {
+        var chain = new MockFilterChain();
+
+        securityFilter.doFilter(new MockHttpServletRequest("GET", "/courses"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        TestObservationRegistryAssert.assertThat(observationRegistry).doesNotHaveAnyObservation();
+    }
+
+    private static MockHttpServletRequest requestWith(String authorization) {
+        var request = new MockHttpServletRequest("PUT", "/courses/1");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}